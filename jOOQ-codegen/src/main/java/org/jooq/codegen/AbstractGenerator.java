@@ -100,6 +100,7 @@ abstract class AbstractGenerator implements Generator {
     boolean                            generatePojosToString                   = true;
     boolean                            generateImmutablePojos                  = false;
     boolean                            generateSerializablePojos               = true;
+    boolean                            generatePojosRecordMappers              = false;
     boolean                            generateInterfaces                      = false;
     boolean                            generateImmutableInterfaces             = false;
     boolean                            generateSerializableInterfaces          = true;
@@ -110,6 +111,9 @@ abstract class AbstractGenerator implements Generator {
     boolean                            generateSpringAnnotations               = false;
     GeneratedSerialVersionUID          generatedSerialVersionUID               = GeneratedSerialVersionUID.CONSTANT;
     int                                maxMembersPerInitialiser                = 500;
+    int                                parallelism                             = 1;
+    boolean                            generateIncremental                     = false;
+    String                             configurationHash                       = "";
     boolean                            generateQueues                          = true;
     boolean                            generateLinks                           = true;
     boolean                            generateKeys                            = true;
@@ -590,6 +594,16 @@ abstract class AbstractGenerator implements Generator {
         this.generateSerializablePojos = generateSerializablePojos;
     }
 
+    @Override
+    public boolean generatePojosRecordMappers() {
+        return generatePojosRecordMappers && generatePojos() && generateRecords();
+    }
+
+    @Override
+    public void setGeneratePojosRecordMappers(boolean generatePojosRecordMappers) {
+        this.generatePojosRecordMappers = generatePojosRecordMappers;
+    }
+
     @Override
     public boolean generateInterfaces() {
         return generateInterfaces || generateImmutableInterfaces;
@@ -690,6 +704,36 @@ abstract class AbstractGenerator implements Generator {
         this.maxMembersPerInitialiser = maxMembersPerInitialiser;
     }
 
+    @Override
+    public int parallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public boolean generateIncremental() {
+        return generateIncremental;
+    }
+
+    @Override
+    public void setGenerateIncremental(boolean generateIncremental) {
+        this.generateIncremental = generateIncremental;
+    }
+
+    @Override
+    public String configurationHash() {
+        return configurationHash;
+    }
+
+    @Override
+    public void setConfigurationHash(String configurationHash) {
+        this.configurationHash = configurationHash;
+    }
+
     @Override
     public boolean generateGlobalObjectReferences() {
         return generateGlobalObjectReferences;
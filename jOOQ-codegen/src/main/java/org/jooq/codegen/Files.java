@@ -47,6 +47,8 @@ import java.util.stream.Stream;
 
 /**
  * A cache for directories and their contents.
+ * <p>
+ * This cache is thread safe, as files may be generated in parallel.
  *
  * @author Lukas Eder
  */
@@ -60,14 +62,14 @@ public final class Files {
         this.mkdirs = new HashSet<>();
     }
 
-    public final String[] list(File dir, FilenameFilter filter) {
+    public final synchronized String[] list(File dir, FilenameFilter filter) {
         return Stream
             .of(lists.computeIfAbsent(dir, File::list))
             .filter(e -> filter.accept(dir, e))
             .toArray(String[]::new);
     }
 
-    public final void mkdirs(File dir) {
+    public final synchronized void mkdirs(File dir) {
         if (mkdirs.add(dir))
             dir.mkdirs();
     }
@@ -62,10 +62,13 @@ import java.util.Properties;
 
 import javax.sql.DataSource;
 
+import org.jooq.ConnectionProvider;
 import org.jooq.Constants;
 import org.jooq.DSLContext;
 import org.jooq.Log.Level;
+import org.jooq.exception.DataAccessException;
 import org.jooq.impl.DSL;
+import org.jooq.impl.DataSourceConnectionProvider;
 import org.jooq.meta.CatalogVersionProvider;
 import org.jooq.meta.Database;
 import org.jooq.meta.Databases;
@@ -82,6 +85,7 @@ import org.jooq.meta.jaxb.Property;
 import org.jooq.meta.jaxb.SchemaMappingType;
 import org.jooq.meta.jaxb.Strategy;
 import org.jooq.meta.jaxb.Target;
+import org.jooq.meta.xml.XMLDatabase;
 // ...
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.StringUtils;
@@ -115,9 +119,11 @@ public class GenerationTool {
     private ClassLoader             loader;
     private DataSource              dataSource;
     private Connection              connection;
+    private ConnectionProvider      connectionProvider;
     private DSLContext              ctx;
     private Boolean                 autoCommit;
     private boolean                 close;
+    private Snapshot                snapshot;
 
     /**
      * The class loader to use with this generation tool.
@@ -308,39 +314,56 @@ public class GenerationTool {
 
         try {
 
+            if (connection == null && dataSource == null) {
+                String url = System.getProperty("jooq.codegen.jdbc.url");
+
+                if (url != null) {
+                    j = defaultIfNull(j, new Jdbc());
+
+                    if (j.getDriver() == null)
+                        j.setDriver(System.getProperty("jooq.codegen.jdbc.driver"));
+                    if (j.getUrl() == null)
+                        j.setUrl(url);
+                    if (j.getUser() == null)
+                        j.setUser(System.getProperty("jooq.codegen.jdbc.user"));
+                    if (j.getUsername() == null)
+                        j.setUsername(System.getProperty("jooq.codegen.jdbc.username"));
+                    if (j.getPassword() == null)
+                        j.setPassword(System.getProperty("jooq.codegen.jdbc.password"));
+
+                    if (j.isAutoCommit() == null) {
+                        String a = System.getProperty("jooq.codegen.jdbc.autoCommit");
+
+                        if (a != null)
+                            j.setAutoCommit(Boolean.valueOf(a));
+                    }
+                }
+            }
+
+            // An up to date snapshot of the meta data doesn't need a JDBC
+            // connection, unless some SQL queries are configured
+            Snapshot s = null;
+            String source = null;
+
+            if (!isBlank(d.getSnapshotFile())) {
+                source = source(j);
+
+                if (!isSQL(d.getSnapshotFingerprint(), locale)
+                        && !isSQL(d.getSchemaVersionProvider(), locale)
+                        && !isSQL(d.getCatalogVersionProvider(), locale))
+                    s = snapshot(configuration, source, locale, false);
+            }
+
             // Initialise connection
             // ---------------------
-            if (connection == null) {
+            if (connection == null && s == null) {
                 close = true;
 
                 if (dataSource != null) {
                     setConnection(dataSource.getConnection());
+                    connectionProvider = new DataSourceConnectionProvider(dataSource);
                 }
                 else {
-                    String url = System.getProperty("jooq.codegen.jdbc.url");
-
-                    if (url != null) {
-                        j = defaultIfNull(j, new Jdbc());
-
-                        if (j.getDriver() == null)
-                            j.setDriver(System.getProperty("jooq.codegen.jdbc.driver"));
-                        if (j.getUrl() == null)
-                            j.setUrl(url);
-                        if (j.getUser() == null)
-                            j.setUser(System.getProperty("jooq.codegen.jdbc.user"));
-                        if (j.getUsername() == null)
-                            j.setUsername(System.getProperty("jooq.codegen.jdbc.username"));
-                        if (j.getPassword() == null)
-                            j.setPassword(System.getProperty("jooq.codegen.jdbc.password"));
-
-                        if (j.isAutoCommit() == null) {
-                            String a = System.getProperty("jooq.codegen.jdbc.autoCommit");
-
-                            if (a != null)
-                                j.setAutoCommit(Boolean.valueOf(a));
-                        }
-                    }
-
                     if (j != null) {
                         try {
                             Class<? extends Driver> driver = (Class<? extends Driver>) loadClass(driverClass(j));
@@ -351,7 +374,34 @@ public class GenerationTool {
                             if (!properties.containsKey("password"))
                                 properties.put("password", defaultString(j.getPassword()));
 
-                            setConnection(driver.newInstance().connect(defaultString(j.getUrl()), properties));
+                            Driver instance = driver.newInstance();
+                            String jdbcUrl = defaultString(j.getUrl());
+                            Boolean jdbcAutoCommit = j.isAutoCommit();
+
+                            setConnection(instance.connect(jdbcUrl, properties));
+
+                            // Additional connections for concurrent meta data fetching
+                            connectionProvider = new ConnectionProvider() {
+                                @Override
+                                public Connection acquire() {
+                                    try {
+                                        Connection c = instance.connect(jdbcUrl, properties);
+
+                                        if (jdbcAutoCommit != null)
+                                            c.setAutoCommit(jdbcAutoCommit);
+
+                                        return c;
+                                    }
+                                    catch (SQLException e) {
+                                        throw new DataAccessException("Error while connecting to database", e);
+                                    }
+                                }
+
+                                @Override
+                                public void release(Connection c) {
+                                    JDBCUtils.safeClose(c);
+                                }
+                            };
                         }
                         catch (Exception e) {
                             if (databaseName != null)
@@ -376,7 +426,7 @@ public class GenerationTool {
             Class<Generator> generatorClass = (Class<Generator>) (!isBlank(g.getName())
                 ? loadClass(trim(g.getName()))
                 : JavaGenerator.class);
-            Generator generator = generatorClass.newInstance();
+            Generator generator = snapshot != null ? snapshot.generator() : generatorClass.newInstance();
 
             GeneratorStrategy strategy;
 
@@ -404,14 +454,24 @@ public class GenerationTool {
 
             generator.setStrategy(strategy);
 
-            Class<? extends Database> databaseClass = !isBlank(databaseName)
+            // Generate code from an up to date snapshot of the meta data, if configured
+            if (s == null && !isBlank(d.getSnapshotFile()))
+                s = snapshot(configuration, source, locale, true);
+
+            Class<? extends Database> databaseClass = s != null
+                ? XMLDatabase.class
+                : !isBlank(databaseName)
                 ? (Class<? extends Database>) loadClass(databaseName)
                 : connection != null
                 ? databaseClass(connection)
                 : databaseClass(j);
+            Properties databaseProperties = s != null
+                ? s.properties()
+                : properties(d.getProperties());
+
             database = databaseClass.newInstance();
             database.setBasedir(configuration.getBasedir());
-            database.setProperties(properties(d.getProperties()));
+            database.setProperties(databaseProperties);
             database.setOnError(configuration.getOnError());
 
             List<CatalogMappingType> catalogs = d.getCatalogs();
@@ -525,6 +585,7 @@ public class GenerationTool {
                 log.info("No <inputSchema/> was provided. Generating ALL available schemata instead.");
 
             database.setConnection(connection);
+            database.setConnectionProvider(connectionProvider);
             database.setConfiguredCatalogs(catalogs);
             database.setConfiguredSchemata(schemata);
             database.setIncludes(new String[] { defaultString(d.getIncludes()) });
@@ -568,6 +629,7 @@ public class GenerationTool {
             database.setEmbeddableDomains(d.getEmbeddableDomains());
             database.setLogSlowQueriesAfterSeconds(defaultIfNull(d.getLogSlowQueriesAfterSeconds(), 5));
             database.setLogSlowResultsAfterSeconds(defaultIfNull(d.getLogSlowResultsAfterSeconds(), 5));
+            database.setParallelism(defaultIfNull(d.getParallelism(), 1));
 
             if (d.getRegexFlags() != null) {
                 database.setRegexFlags(d.getRegexFlags());
@@ -733,6 +795,8 @@ public class GenerationTool {
                 generator.setGenerateImmutablePojos(g.getGenerate().isImmutablePojos());
             if (g.getGenerate().isSerializablePojos() != null)
                 generator.setGenerateSerializablePojos(g.getGenerate().isSerializablePojos());
+            if (g.getGenerate().isPojosRecordMappers() != null)
+                generator.setGeneratePojosRecordMappers(g.getGenerate().isPojosRecordMappers());
             if (g.getGenerate().isInterfaces() != null)
                 generator.setGenerateInterfaces(g.getGenerate().isInterfaces());
             if (g.getGenerate().isImmutableInterfaces() != null)
@@ -753,6 +817,10 @@ public class GenerationTool {
                 generator.setGenerateGeneratedSerialVersionUID(g.getGenerate().getGeneratedSerialVersionUID());
             if (g.getGenerate().getMaxMembersPerInitialiser() != null)
                 generator.setMaxMembersPerInitialiser(g.getGenerate().getMaxMembersPerInitialiser());
+            if (g.getGenerate().getParallelism() != null)
+                generator.setParallelism(g.getGenerate().getParallelism());
+            if (g.getGenerate().isIncremental() != null)
+                generator.setGenerateIncremental(g.getGenerate().isIncremental());
             if (g.getGenerate().isQueues() != null)
                 generator.setGenerateQueues(g.getGenerate().isQueues());
             if (g.getGenerate().isLinks() != null)
@@ -866,6 +934,9 @@ public class GenerationTool {
             strategy.setInstanceFields(generator.generateInstanceFields());
             strategy.setJavaBeansGettersAndSetters(generator.generateJavaBeansGettersAndSetters());
 
+            // Any change to the configuration or to the jOOQ version may affect all generated files
+            generator.setConfigurationHash(Manifest.hash(Constants.FULL_VERSION + "\n" + configuration));
+
             generator.generate(database);
 
             logUnused("forced type", "forced types", database.getUnusedForcedTypes());
@@ -903,6 +974,139 @@ public class GenerationTool {
         }
     }
 
+    /**
+     * Get the meta data snapshot of a configuration, taking it first if it is
+     * not up to date and <code>take</code> is set, or <code>null</code> if no
+     * up to date snapshot is available.
+     * <p>
+     * The snapshot is taken by a nested code generation run, which uses a copy
+     * of the configuration that has everything removed which does not affect
+     * the reflected meta data, such as forced types, synthetic objects, or
+     * output schema mappings. Only that copy, the <code>source</code> of the
+     * meta data, and the fingerprint decide whether a snapshot is up to date.
+     */
+    private Snapshot snapshot(Configuration configuration, String source, Locale locale, boolean take) throws Exception {
+        org.jooq.meta.jaxb.Database d = configuration.getGenerator().getDatabase();
+
+        File file = new File(d.getSnapshotFile());
+        if (!file.isAbsolute())
+            file = new File(configuration.getBasedir(), d.getSnapshotFile());
+
+        Configuration c = MiniJAXB.unmarshal(MiniJAXB.marshal(configuration), Configuration.class);
+        c.setOnError(OnError.FAIL);
+        c.setJdbc(null);
+        c.getGenerator().setName(null);
+        c.getGenerator().setStrategy(null);
+        c.getGenerator().setGenerate(null);
+        c.getGenerator().setTarget(null);
+
+        org.jooq.meta.jaxb.Database cd = c.getGenerator().getDatabase();
+        cd.setSnapshotFile(null);
+        cd.setSnapshotFingerprint(null);
+        cd.setSchemaVersionProvider(null);
+        cd.setCatalogVersionProvider(null);
+        cd.setOrderProvider(null);
+        cd.setRecordVersionFields(null);
+        cd.setRecordTimestampFields(null);
+        cd.setSyntheticObjects(null);
+        cd.setSyntheticIdentities(null);
+        cd.setSyntheticPrimaryKeys(null);
+        cd.setOverridePrimaryKeys(null);
+        cd.setEmbeddablePrimaryKeys(null);
+        cd.setEmbeddableUniqueKeys(null);
+        cd.setEmbeddableDomains(null);
+        cd.setComments(null);
+        cd.setEmbeddables(null);
+        removeDeprecatedTypes(cd);
+        cd.setForcedTypes(null);
+        cd.setOutputCatalog(null);
+        cd.setOutputCatalogToDefault(null);
+        cd.setOutputSchema(null);
+        cd.setOutputSchemaToDefault(null);
+
+        for (CatalogMappingType catalog : cd.getCatalogs()) {
+            catalog.setOutputCatalog(null);
+            catalog.setOutputCatalogToDefault(null);
+
+            for (SchemaMappingType schema : catalog.getSchemata()) {
+                schema.setOutputSchema(null);
+                schema.setOutputSchemaToDefault(null);
+            }
+        }
+
+        for (SchemaMappingType schema : cd.getSchemata()) {
+            schema.setOutputSchema(null);
+            schema.setOutputSchemaToDefault(null);
+        }
+
+        String fingerprint = d.getSnapshotFingerprint();
+        if (isBlank(fingerprint))
+            fingerprint = "";
+        else if (isSQL(fingerprint, locale))
+            if (connection != null)
+                fingerprint = DSL.using(connection).fetch(fingerprint).formatCSV();
+            else
+                throw new GeneratorException("A SQL <snapshotFingerprint/> requires a JDBC connection");
+
+        Snapshot result = new Snapshot(file, Manifest.hash(Constants.FULL_VERSION + "\n" + source + "\n" + cd + "\n" + fingerprint));
+        if (result.upToDate()) {
+            log.info("Using snapshot", file);
+            return result;
+        }
+        else if (!take) {
+            return null;
+        }
+
+        log.info("Taking snapshot", file);
+        GenerationTool tool = new GenerationTool();
+        tool.setClassLoader(loader);
+        tool.setConnection(connection);
+        tool.connectionProvider = connectionProvider;
+        tool.snapshot = result;
+
+        try {
+            tool.run(c);
+            return result;
+        }
+        catch (GeneratorException e) {
+            log.warn("Snapshot", "Cannot take a snapshot. Generating code from the database instead: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * The custom types and enum types do not affect the reflected meta data
+     * either, but they can only be removed through deprecated API.
+     */
+    @SuppressWarnings("deprecation")
+    private static void removeDeprecatedTypes(org.jooq.meta.jaxb.Database d) {
+        d.setCustomTypes(null);
+        d.setEnumTypes(null);
+    }
+
+    /**
+     * The source of the meta data that a snapshot is taken from, i.e. the
+     * JDBC URL and user, or the type of the {@link DataSource}.
+     */
+    private String source(Jdbc j) throws SQLException {
+        if (connection != null)
+            return connection.getMetaData().getURL() + " " + connection.getMetaData().getUserName();
+        else if (dataSource != null)
+            return dataSource.getClass().getName();
+        else if (j != null)
+            return j.getUrl() + " " + defaultString(j.getUser(), j.getUsername());
+        else
+            return "";
+    }
+
+    /**
+     * Whether a configuration value is a SQL query, which requires a JDBC
+     * connection.
+     */
+    private static boolean isSQL(String value, Locale locale) {
+        return value != null && value.toLowerCase(locale).startsWith("select");
+    }
+
     private void logUnused(String objectType, String objectTypes, List<?> list) {
         if (!list.isEmpty() && Boolean.parseBoolean(System.getProperty("jooq.codegen.logunused", "true"))) {
             unusedLogger.warn(
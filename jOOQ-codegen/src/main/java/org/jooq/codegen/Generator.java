@@ -451,6 +451,20 @@ public interface Generator {
      */
     void setGenerateSerializablePojos(boolean generateSerializablePojos);
 
+    /**
+     * Whether reflection free {@link org.jooq.RecordMapper} and
+     * {@link org.jooq.RecordUnmapper} implementations should be generated
+     * between table records and POJOs.
+     */
+    boolean generatePojosRecordMappers();
+
+    /**
+     * Whether reflection free {@link org.jooq.RecordMapper} and
+     * {@link org.jooq.RecordUnmapper} implementations should be generated
+     * between table records and POJOs.
+     */
+    void setGeneratePojosRecordMappers(boolean generatePojosRecordMappers);
+
     /**
      * Whether interfaces should be generated to be implemented by records and
      * POJO's
@@ -559,6 +573,40 @@ public interface Generator {
      */
     void setMaxMembersPerInitialiser(int maxMembersPerInitialiser);
 
+    /**
+     * The number of threads used to generate per-table files.
+     */
+    int parallelism();
+
+    /**
+     * The number of threads used to generate per-table files.
+     */
+    void setParallelism(int parallelism);
+
+    /**
+     * Whether to skip regenerating per-table files whose inputs have not
+     * changed since the previous run.
+     */
+    boolean generateIncremental();
+
+    /**
+     * Whether to skip regenerating per-table files whose inputs have not
+     * changed since the previous run.
+     */
+    void setGenerateIncremental(boolean generateIncremental);
+
+    /**
+     * A hash of the code generation configuration, which invalidates all
+     * incrementally generated files when it changes.
+     */
+    String configurationHash();
+
+    /**
+     * A hash of the code generation configuration, which invalidates all
+     * incrementally generated files when it changes.
+     */
+    void setConfigurationHash(String configurationHash);
+
     /**
      * Whether global object references should be generated
      */
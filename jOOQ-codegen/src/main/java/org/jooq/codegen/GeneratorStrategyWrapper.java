@@ -293,7 +293,7 @@ class GeneratorStrategyWrapper extends AbstractGeneratorStrategy {
      * [#182] Find all column names that are reserved because of the extended
      * class hierarchy of a generated class
      */
-    private Set<String> reservedColumns(Class<?> clazz, int length) {
+    private synchronized Set<String> reservedColumns(Class<?> clazz, int length) {
         if (clazz == null)
             return Collections.emptySet();
 
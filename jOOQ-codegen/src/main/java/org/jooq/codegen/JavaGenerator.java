@@ -76,6 +76,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -99,6 +104,11 @@ import org.jooq.OrderField;
 import org.jooq.Parameter;
 // ...
 import org.jooq.Record;
+import org.jooq.RecordMapper;
+import org.jooq.RecordMapperProvider;
+import org.jooq.RecordType;
+import org.jooq.RecordUnmapper;
+import org.jooq.RecordUnmapperProvider;
 import org.jooq.Result;
 import org.jooq.Row;
 import org.jooq.Schema;
@@ -107,6 +117,7 @@ import org.jooq.SortOrder;
 import org.jooq.Table;
 import org.jooq.TableField;
 import org.jooq.TableOptions;
+import org.jooq.TableRecord;
 import org.jooq.UDT;
 import org.jooq.UDTField;
 import org.jooq.UniqueKey;
@@ -119,6 +130,8 @@ import org.jooq.impl.CatalogImpl;
 import org.jooq.impl.DAOImpl;
 import org.jooq.impl.DSL;
 import org.jooq.impl.DefaultDataType;
+import org.jooq.impl.DefaultRecordMapperProvider;
+import org.jooq.impl.DefaultRecordUnmapperProvider;
 import org.jooq.impl.EmbeddableRecordImpl;
 import org.jooq.impl.Internal;
 import org.jooq.impl.LazySchema;
@@ -194,6 +207,16 @@ public class JavaGenerator extends AbstractGenerator {
      */
     private static final String                   NO_FURTHER_INSTANCES_ALLOWED = "No further instances allowed";
 
+    /**
+     * The file name of the {@link Manifest} in the target package directory.
+     */
+    private static final String                   MANIFEST                     = ".jooq-manifest";
+
+    /**
+     * The name of the generated record mappers class in each schema package.
+     */
+    private static final String                   RECORD_MAPPERS               = "RecordMappers";
+
     /**
      * [#4429] A map providing access to SQLDataType member literals
      */
@@ -277,6 +300,18 @@ public class JavaGenerator extends AbstractGenerator {
      */
     private Set<File>                             directoriesNotForRemoval     = new LinkedHashSet<>();
 
+    /**
+     * The worker pool generating per-table files, if {@link #parallelism()} is
+     * greater than 1.
+     */
+    private ExecutorService                       executor;
+
+    /**
+     * The content hashes of previously generated per-table files, if
+     * {@link #generateIncremental()} is turned on.
+     */
+    private Manifest                              manifest;
+
     private boolean                               scala;
     private final boolean                         scalaConfigured;
     private boolean                               kotlin;
@@ -419,6 +454,7 @@ public class JavaGenerator extends AbstractGenerator {
         log.info("  global references (sequences)", generateGlobalSequenceReferences());
         log.info("  global references (tables)", generateGlobalTableReferences());
         log.info("  global references (udts)", generateGlobalUDTReferences());
+        log.info("  incremental", generateIncremental());
         log.info("  indexes", generateIndexes());
         log.info("  instance fields", generateInstanceFields());
         log.info("  interfaces", generateInterfaces()
@@ -431,6 +467,8 @@ public class JavaGenerator extends AbstractGenerator {
               + ((!generatePojos && generateDaos) ? " (forced to true because of <daos/>)" :
                 ((!generatePojos && generateImmutablePojos) ? " (forced to true because of <immutablePojos/>)" : "")));
         log.info("  pojos (immutable)", generateImmutablePojos());
+        log.info("  pojos (record mappers)", generatePojosRecordMappers()
+              + ((generatePojosRecordMappers() && (scala || kotlin)) ? " (not supported in Scala or Kotlin)" : ""));
         log.info("  queues", generateQueues());
         log.info("  records", generateRecords()
               + ((!generateRecords && generateDaos) ? " (forced to true because of <daos/>)" : ""));
@@ -466,16 +504,32 @@ public class JavaGenerator extends AbstractGenerator {
         log.info("Generating catalogs", "Total: " + database.getCatalogs().size());
 
         StopWatch w = new StopWatch();
-        for (CatalogDefinition catalog : database.getCatalogs()) {
-            try {
-                if (generateCatalogIfEmpty(catalog))
-                    generate(catalog);
-                else
-                    log.info("Excluding empty catalog", catalog);
+        executor = parallelism() > 1 ? Executors.newFixedThreadPool(parallelism()) : null;
+        manifest = generateIncremental() ? new Manifest(new File(getStrategy().getFileRoot(), MANIFEST), configurationHash()) : null;
+
+        try {
+            for (CatalogDefinition catalog : database.getCatalogs()) {
+                try {
+                    if (generateCatalogIfEmpty(catalog))
+                        generate(catalog);
+                    else
+                        log.info("Excluding empty catalog", catalog);
+                }
+                catch (Exception e) {
+                    throw new GeneratorException("Error generating code for catalog " + catalog, e);
+                }
             }
-            catch (Exception e) {
-                throw new GeneratorException("Error generating code for catalog " + catalog, e);
+
+            if (manifest != null)
+                manifest.store();
+        }
+        finally {
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
             }
+
+            manifest = null;
         }
 
         long time = w.split();
@@ -606,6 +660,9 @@ public class JavaGenerator extends AbstractGenerator {
         // ----------------------------------------------------------------------
         // XXX Initialising
         // ----------------------------------------------------------------------
+        if (executor != null)
+            prefetch(schema);
+
         generateSchema(schema);
 
         if (generateGlobalSequenceReferences() && database.getSequences(schema).size() > 0)
@@ -629,6 +686,9 @@ public class JavaGenerator extends AbstractGenerator {
         if (generateDaos() && database.getTables(schema).size() > 0)
             generateDaos(schema);
 
+        if (generatePojosRecordMappers() && !scala && !kotlin && database.getTables(schema).size() > 0)
+            generateRecordMappers(schema);
+
         if (generateGlobalTableReferences() && database.getTables(schema).size() > 0)
             generateTableReferences(schema);
 
@@ -1406,14 +1466,14 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateRecords(SchemaDefinition schema) {
         log.info("Generating table records");
 
-        for (TableDefinition table : database.getTables(schema)) {
+        forEachTable(database.getTables(schema), Mode.RECORD, table -> {
             try {
                 generateRecord(table);
             }
             catch (Exception e) {
                 log.error("Error while generating table record " + table, e);
             }
-        }
+        });
 
         watch.splitInfo("Table records generated");
     }
@@ -2590,14 +2650,14 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateInterfaces(SchemaDefinition schema) {
         log.info("Generating table interfaces");
 
-        for (TableDefinition table : database.getTables(schema)) {
+        forEachTable(database.getTables(schema), Mode.INTERFACE, table -> {
             try {
                 generateInterface(table);
             }
             catch (Exception e) {
                 log.error("Error while generating table interface " + table, e);
             }
-        }
+        });
 
         watch.splitInfo("Table interfaces generated");
     }
@@ -3548,6 +3608,14 @@ public class JavaGenerator extends AbstractGenerator {
             }
             out.println("case _ => throw new %s()", IllegalArgumentException.class);
             out.println("}");
+
+            out.println();
+            out.println("def lookupLiteral(s: %s): %s = s match {", String.class, className);
+            for (int i = 0; i < identifiers.size(); i++) {
+                out.println("case \"%s\" => %s", literals.get(i), identifiers.get(i));
+            }
+            out.println("case _ => null");
+            out.println("}");
             out.println("}");
 
             out.println();
@@ -3599,6 +3667,17 @@ public class JavaGenerator extends AbstractGenerator {
 
             out.println("%soverride fun getLiteral(): String = literal", visibilityPublic());
 
+            out.println();
+            out.println("%scompanion object {", visibility());
+            out.javadoc("Lookup a value of this EnumType by its literal");
+            out.println("@JvmStatic");
+            out.println("%sfun lookupLiteral(literal: String): %s? = when (literal) {", visibilityPublic(), className);
+            for (int i = 0; i < literals.size(); i++)
+                out.println("\"%s\" -> %s", literals.get(i), identifiers.get(i));
+            out.println("else -> null");
+            out.println("}");
+            out.println("}");
+
             generateEnumClassFooter(e, out);
             out.println("}");
         }
@@ -3655,6 +3734,21 @@ public class JavaGenerator extends AbstractGenerator {
             out.println("return literal;");
             out.println("}");
 
+            out.javadoc("Lookup a value of this EnumType by its literal");
+            out.println("%sstatic %s lookupLiteral(%s literal) {", visibilityPublic(), className, String.class);
+            out.println("if (literal == null)");
+            out.println("return null;");
+            out.println();
+            out.println("switch (literal) {");
+            for (int i = 0; i < literals.size(); i++) {
+                out.println("case \"%s\":", literals.get(i));
+                out.println("\treturn %s;", identifiers.get(i));
+            }
+            out.println("default:");
+            out.println("\treturn null;");
+            out.println("}");
+            out.println("}");
+
             generateEnumClassFooter(e, out);
             out.println("}");
         }
@@ -3987,17 +4081,248 @@ public class JavaGenerator extends AbstractGenerator {
         return StringUtils.isEmpty(schema.getOutputName()) ? "the default schema" : schema.getOutputName();
     }
 
+    protected void generateRecordMappers(SchemaDefinition schema) {
+        log.info("Generating record mappers");
+
+        JavaWriter out = newJavaWriter(new File(getFile(schema).getParentFile(), RECORD_MAPPERS + ".java"));
+        generateRecordMappers(schema, out);
+        closeJavaWriter(out);
+
+        watch.splitInfo("Record mappers generated");
+    }
+
+    protected void generateRecordMappers(SchemaDefinition schema, JavaWriter out) {
+        final List<TableDefinition> tables = new ArrayList<>();
+        final List<String> mappings = new ArrayList<>();
+
+        for (TableDefinition table : database.getTables(schema)) {
+            if (hasRecordMapper(table, out)) {
+                tables.add(table);
+                mappings.add(getStrategy().getJavaClassName(table, Mode.POJO) + "Mapping");
+            }
+            else {
+                log.info("Skipping record mapper", table.getQualifiedOutputName());
+            }
+        }
+
+        // Nested classes must not be shadowed by imports of the same name
+        out.refConflicts(mappings);
+        out.refConflicts(asList("Mapping"));
+        printPackage(out, schema);
+        printClassJavadoc(out, "Reflection free record mappers and unmappers between the records and POJOs of tables in " + schemaNameOrDefault(schema) + ".");
+        printClassAnnotations(out, schema, Mode.DEFAULT);
+
+        out.println("%sclass %s implements %s, %s {", visibility(), RECORD_MAPPERS, RecordMapperProvider.class, RecordUnmapperProvider.class);
+        out.println();
+        out.println("private static final %s<Class<?>, Mapping<?, ?>> MAPPINGS = new %s<>();", Map.class, HashMap.class);
+        out.println();
+
+        // Distribute registrations to methods only if necessary, keeping the static initialiser small
+        boolean distributeMappings = tables.size() > maxMembersPerInitialiser();
+
+        out.println("static {");
+        if (distributeMappings)
+            for (int block = 0; block * maxMembersPerInitialiser() < tables.size(); block++)
+                out.println("init%s();", block);
+        else
+            for (int i = 0; i < tables.size(); i++)
+                out.println("MAPPINGS.put(%s.class, new %s());", out.ref(getStrategy().getFullJavaClassName(tables.get(i), Mode.POJO)), mappings.get(i));
+        out.println("}");
+
+        if (distributeMappings) {
+            for (int i = 0; i < tables.size(); i++) {
+                if (i % maxMembersPerInitialiser() == 0) {
+                    if (i > 0)
+                        out.println("}");
+
+                    out.println();
+                    out.println("private static void init%s() {", i / maxMembersPerInitialiser());
+                }
+
+                out.println("MAPPINGS.put(%s.class, new %s());", out.ref(getStrategy().getFullJavaClassName(tables.get(i), Mode.POJO)), mappings.get(i));
+            }
+
+            out.println("}");
+        }
+
+        out.println();
+        out.println("private final %s mapperDelegate;", RecordMapperProvider.class);
+        out.println("private final %s unmapperDelegate;", RecordUnmapperProvider.class);
+
+        out.javadoc("Create mappers that delegate all other types to the default providers.\n<p>\nAn instance should be set both as the <code>RecordMapperProvider</code> and as the <code>RecordUnmapperProvider</code> of a <code>Configuration</code>.");
+        out.println("%s%s() {", visibility(), RECORD_MAPPERS);
+        out.println("this(new %s(), new %s());", DefaultRecordMapperProvider.class, DefaultRecordUnmapperProvider.class);
+        out.println("}");
+
+        out.javadoc("Create mappers that delegate all other types to the argument providers.");
+        out.println("%s%s(%s mapperDelegate, %s unmapperDelegate) {", visibility(), RECORD_MAPPERS, RecordMapperProvider.class, RecordUnmapperProvider.class);
+        out.println("this.mapperDelegate = mapperDelegate;");
+        out.println("this.unmapperDelegate = unmapperDelegate;");
+        out.println("}");
+
+        out.println();
+        out.override();
+        out.println("%s<R extends %s, E> %s<R, E> provide(%s<R> recordType, Class<? extends E> type) {", visibilityPublic(), Record.class, RecordMapper.class, RecordType.class);
+        out.println("Mapping<?, ?> mapping = MAPPINGS.get(type);");
+        out.println();
+        out.println("if (mapping != null && mapping.matches(recordType))");
+        out.println("return (%s<R, E>) mapping;", RecordMapper.class);
+        out.println("else");
+        out.println("return mapperDelegate.provide(recordType, type);");
+        out.println("}");
+
+        out.println();
+        out.override();
+        out.println("%s<E, R extends %s> %s<E, R> provide(Class<? extends E> type, %s<R> recordType) {", visibilityPublic(), Record.class, RecordUnmapper.class, RecordType.class);
+        out.println("Mapping<?, ?> mapping = MAPPINGS.get(type);");
+        out.println();
+        out.println("if (mapping != null && mapping.matches(recordType))");
+        out.println("return (%s<E, R>) mapping;", RecordUnmapper.class);
+        out.println("else");
+        out.println("return unmapperDelegate.provide(type, recordType);");
+        out.println("}");
+
+        out.println();
+        out.println("private static abstract class Mapping<R extends %s<R>, E> implements %s<%s, E>, %s<E, R> {", TableRecord.class, RecordMapper.class, Record.class, RecordUnmapper.class);
+        out.println();
+        out.println("private final %s<?>[] fields;", Field.class);
+        out.println();
+        out.println("Mapping(%s<R> table) {", Table.class);
+        out.println("this.fields = table.fields();");
+        out.println("}");
+        out.println();
+        out.println("final boolean matches(%s<?> recordType) {", RecordType.class);
+        out.println("if (recordType.size() != fields.length)");
+        out.println("return false;");
+        out.println();
+        out.println("for (int i = 0; i < fields.length; i++) {");
+        out.println("%s<?> field = recordType.field(i);", Field.class);
+        out.println();
+        out.println("if (field != fields[i] && (!field.equals(fields[i]) || field.getType() != fields[i].getType()))");
+        out.println("return false;");
+        out.println("}");
+        out.println();
+        out.println("return true;");
+        out.println("}");
+        out.println("}");
+
+        for (int i = 0; i < tables.size(); i++) {
+            try {
+                generateRecordMapper(tables.get(i), mappings.get(i), out);
+            }
+            catch (Exception e) {
+                log.error("Error while generating record mapper " + tables.get(i), e);
+            }
+        }
+
+        generateRecordMappersClassFooter(schema, out);
+        out.println("}");
+    }
+
+    /**
+     * Subclasses may override this method to provide record mappers class footer code.
+     */
+    @SuppressWarnings("unused")
+    protected void generateRecordMappersClassFooter(SchemaDefinition schema, JavaWriter out) {}
+
+    /**
+     * Whether a reflection free mapping can be generated between a table's
+     * record and its POJO.
+     * <p>
+     * Embeddables, UDTs and ARRAYs are represented differently in records and
+     * POJOs, so their tables are left to the default mappers.
+     */
+    protected boolean hasRecordMapper(TableDefinition table, JavaWriter out) {
+        List<ColumnDefinition> columns = table.getColumns();
+
+        if (table.isTableValuedFunction() || !table.getReferencedEmbeddables().isEmpty())
+            return false;
+
+        // Immutable POJOs can only be constructed through the multi-constructor
+        if (generateImmutablePojos() && (columns.isEmpty() || columns.size() > 255))
+            return false;
+
+        for (ColumnDefinition column : columns) {
+            DataTypeDefinition type = column.getType(resolver(out, Mode.POJO));
+
+            if (type.isUDT() || type.isArray())
+                return false;
+            else if (!getJavaType(type, out, Mode.POJO).equals(getJavaType(column.getType(resolver(out, Mode.RECORD)), out, Mode.RECORD)))
+                return false;
+        }
+
+        return true;
+    }
+
+    protected void generateRecordMapper(TableDefinition table, String mappingName, JavaWriter out) {
+        final String pType = out.ref(getStrategy().getFullJavaClassName(table, Mode.POJO));
+        final String tableRecord = out.ref(getStrategy().getFullJavaClassName(table, Mode.RECORD));
+        final String tableIdentifier = out.ref(getStrategy().getFullJavaIdentifier(table), 2);
+        final List<ColumnDefinition> columns = table.getColumns();
+        final List<String> types = new ArrayList<>(columns.size());
+
+        for (ColumnDefinition column : columns)
+            types.add(out.ref(getJavaType(column.getType(resolver(out, Mode.POJO)), out, Mode.POJO)));
+
+        out.println();
+        out.println("private static final class %s extends Mapping<%s, %s> {", mappingName, tableRecord, pType);
+        out.println();
+        out.println("%s() {", mappingName);
+        out.println("super(%s);", tableIdentifier);
+        out.println("}");
+
+        out.println();
+        out.override();
+        out.println("%s%s map(%s record) {", visibilityPublic(), pType, Record.class);
+
+        if (generateImmutablePojos()) {
+            out.print("return new %s(", pType);
+
+            String separator = "";
+            for (int i = 0; i < columns.size(); i++) {
+                out.println(separator);
+                out.print("(%s) record.get(%s)", types.get(i), i);
+                separator = ",";
+            }
+
+            out.println();
+            out.println(");");
+        }
+        else {
+            out.println("%s pojo = new %s();", pType, pType);
+
+            for (int i = 0; i < columns.size(); i++)
+                out.println("pojo.%s((%s) record.get(%s));", getStrategy().getJavaSetterName(columns.get(i), Mode.POJO), types.get(i), i);
+
+            out.println("return pojo;");
+        }
+
+        out.println("}");
+
+        out.println();
+        out.override();
+        out.println("%s%s unmap(%s pojo) {", visibilityPublic(), tableRecord, pType);
+        out.println("%s record = new %s();", tableRecord, tableRecord);
+
+        for (ColumnDefinition column : columns)
+            out.println("record.%s(pojo.%s());", getStrategy().getJavaSetterName(column, Mode.RECORD), getStrategy().getJavaGetterName(column, Mode.POJO));
+
+        out.println("return record;");
+        out.println("}");
+        out.println("}");
+    }
+
     protected void generateDaos(SchemaDefinition schema) {
         log.info("Generating DAOs");
 
-        for (TableDefinition table : database.getTables(schema)) {
+        forEachTable(database.getTables(schema), Mode.DAO, table -> {
             try {
                 generateDao(table);
             }
             catch (Exception e) {
                 log.error("Error while generating table DAO " + table, e);
             }
-        }
+        });
 
         watch.splitInfo("Table DAOs generated");
     }
@@ -4295,14 +4620,14 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generatePojos(SchemaDefinition schema) {
         log.info("Generating table POJOs");
 
-        for (TableDefinition table : database.getTables(schema)) {
+        forEachTable(database.getTables(schema), Mode.POJO, table -> {
             try {
                 generatePojo(table);
             }
             catch (Exception e) {
                 log.error("Error while generating table POJO " + table, e);
             }
-        }
+        });
 
         watch.splitInfo("Table POJOs generated");
     }
@@ -5144,14 +5469,14 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateTables(SchemaDefinition schema) {
         log.info("Generating tables");
 
-        for (TableDefinition table : database.getTables(schema)) {
+        forEachTable(database.getTables(schema), Mode.DEFAULT, table -> {
             try {
                 generateTable(schema, table);
             }
             catch (Exception e) {
                 log.error("Error while generating table " + table, e);
             }
-        }
+        });
 
         watch.splitInfo("Tables generated");
     }
@@ -8780,10 +9105,200 @@ public class JavaGenerator extends AbstractGenerator {
     protected void closeJavaWriter(JavaWriter out) {
         CloseResult result = out.close();
 
-        if (result.affected)
-            affectedFiles.add(out.file());
+        synchronized (this) {
+            if (result.affected)
+                affectedFiles.add(out.file());
+
+            if (result.modified)
+                modifiedFiles.add(out.file());
+        }
+    }
+
+    /**
+     * Load all lazily fetched meta data of a schema before generating files in
+     * parallel, so that worker threads do not run meta data queries.
+     */
+    private void prefetch(SchemaDefinition schema) {
+        database.getRelations();
+        database.getSequences(schema);
+        database.getTables(schema);
+        database.getIndexes(schema);
+        database.getEmbeddables(schema);
+        database.getEnums(schema);
+        database.getDomains(schema);
+        database.getUDTs(schema);
+        database.getArrays(schema);
+        database.getRoutines(schema);
+        database.getPackages(schema);
+
+        // getType(JavaTypeResolver) caches the imports of the first writer,
+        // so resolve the writer independent type, which looks up the same
+        // domains, enums, and forced types
+        for (TableDefinition table : database.getTables(schema)) {
+            table.getPrimaryKey();
+            table.getKeys();
+            table.getForeignKeys();
+            table.getCheckConstraints();
+            table.getIdentity();
+            table.getIndexes();
+            table.getEmbeddables();
+            table.getReferencedEmbeddables();
+
+            for (ColumnDefinition column : table.getColumns()) {
+                column.getType();
+                column.getDomain();
+                column.getKeys();
+                column.getForeignKeys();
+                column.isIdentity();
+            }
+        }
+    }
+
+    /**
+     * Generate per-table files.
+     * <p>
+     * If there is an {@link #executor}, the files are generated in parallel,
+     * after {@link #prefetch(SchemaDefinition)} has loaded all lazily fetched
+     * meta data. The contents of each file depend only on its table, so the
+     * output does not depend on the parallelism.
+     * <p>
+     * If {@link #generateIncremental()} is turned on, files whose table has
+     * not changed since the previous run are skipped.
+     */
+    private void forEachTable(List<TableDefinition> tables, Mode mode, Consumer<TableDefinition> g) {
+        Consumer<TableDefinition> generator = manifest == null ? g : table -> generateIfModified(table, mode, g);
+
+        if (executor == null) {
+            for (TableDefinition table : tables)
+                generator.accept(table);
+
+            return;
+        }
+
+        List<Future<?>> futures = new ArrayList<>(tables.size());
+        for (TableDefinition table : tables)
+            futures.add(executor.submit(() -> generator.accept(table)));
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GeneratorException("Interrupted while generating tables", e);
+            }
+            catch (ExecutionException e) {
+                throw new GeneratorException("Error while generating tables", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Generate a per-table file unless it has been generated from the same
+     * table meta data in the previous run, according to the {@link #manifest}.
+     */
+    private void generateIfModified(TableDefinition table, Mode mode, Consumer<TableDefinition> generator) {
+        File file = getFile(table, mode);
+        String hash = hash(table);
+
+        if (manifest.upToDate(file, hash)) {
+            log.debug("Skipping unchanged file", file.getName());
+
+            synchronized (this) {
+                affectedFiles.add(file);
+            }
+        }
+        else {
+            generator.accept(table);
+
+            // Errors are logged by the generator. Don't record their hashes
+            synchronized (this) {
+                if (!affectedFiles.contains(file))
+                    return;
+            }
+        }
+
+        manifest.put(file, hash);
+    }
+
+    /**
+     * A hash of the meta data that per-table files are generated from.
+     * <p>
+     * This includes the names of referenced objects, but not their contents,
+     * which are not rendered in per-table files.
+     */
+    private static String hash(TableDefinition table) {
+        StringBuilder sb = new StringBuilder();
 
-        if (result.modified)
-            modifiedFiles.add(out.file());
+        line(sb, "table", table.getQualifiedInputName(), table.getQualifiedOutputName(), table.getComment(), table.getSource(),
+            table.isSynthetic(), table.isTemporary(), table.isView(), table.isMaterializedView(), table.isTableValuedFunction());
+
+        for (ParameterDefinition parameter : table.getParameters()) {
+            line(sb, "parameter", parameter.getInputName(), parameter.getOutputName(), parameter.getPosition(), parameter.isDefaulted(), parameter.isUnnamed());
+            line(sb, parameter.getType());
+        }
+
+        for (ColumnDefinition column : table.getColumns()) {
+            line(sb, "column", column.getInputName(), column.getOutputName(), column.getComment(), column.getPosition(), column.isIdentity(),
+                column.getDomain() == null ? null : column.getDomain().getQualifiedOutputName());
+            line(sb, column.getType());
+            line(sb, column.getDefinedType());
+        }
+
+        if (table.getIdentity() != null)
+            line(sb, "identity", table.getIdentity().getColumn().getOutputName());
+
+        for (UniqueKeyDefinition key : table.getKeys()) {
+            line(sb, "key", key.getOutputName(), key.isPrimaryKey(), key.enforced(), names(key.getKeyColumns()));
+
+            for (ForeignKeyDefinition fk : key.getForeignKeys())
+                line(sb, "referenced by", fk.getQualifiedOutputName(), fk.getTable().getQualifiedOutputName(), names(fk.getKeyColumns()));
+        }
+
+        for (ForeignKeyDefinition fk : table.getForeignKeys())
+            line(sb, "foreign key", fk.getOutputName(), fk.enforced(), names(fk.getKeyColumns()), fk.countSimilarReferences(),
+                fk.getReferencedKey().getQualifiedOutputName(), fk.getReferencedTable().getQualifiedOutputName(), names(fk.getReferencedColumns()));
+
+        for (IndexDefinition index : table.getIndexes()) {
+            line(sb, "index", index.getQualifiedOutputName(), index.isUnique());
+
+            for (IndexColumnDefinition column : index.getIndexColumns())
+                line(sb, "index column", column.getOutputName(), column.getSortOrder());
+        }
+
+        for (CheckConstraintDefinition check : table.getCheckConstraints())
+            line(sb, "check", check.getOutputName(), check.enforced(), check.getCheckClause());
+
+        for (EmbeddableDefinition embeddable : table.getReferencedEmbeddables()) {
+            line(sb, "embeddable", embeddable.getQualifiedOutputName(), embeddable.getReferencingOutputName(), embeddable.getReferencingComment(),
+                embeddable.getDefiningTable().getQualifiedOutputName(), embeddable.replacesFields());
+
+            for (EmbeddableColumnDefinition column : embeddable.getColumns())
+                line(sb, "embeddable column", column.getOutputName(), column.getReferencingColumn().getOutputName(), column.getPosition());
+        }
+
+        return Manifest.hash(sb.toString());
+    }
+
+    private static void line(StringBuilder sb, DataTypeDefinition type) {
+        line(sb, "type", type.getType(), type.getUserType(), type.getQualifiedUserType(), type.getConverter(), type.getBinding(),
+            type.getLength(), type.getPrecision(), type.getScale(), type.isNullable(), type.isIdentity(), type.isDefaulted(),
+            type.getDefaultValue(), type.getJavaType(), type.isUDT(), type.isArray(), type.isGenericNumberType());
+    }
+
+    private static void line(StringBuilder sb, Object... values) {
+        for (Object value : values)
+            sb.append(value).append('\0');
+
+        sb.append('\n');
+    }
+
+    private static List<String> names(List<? extends Definition> definitions) {
+        List<String> result = new ArrayList<>(definitions.size());
+
+        for (Definition definition : definitions)
+            result.add(definition.getOutputName());
+
+        return result;
     }
 }
@@ -0,0 +1,160 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.codegen;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jooq.tools.JooqLogger;
+
+/**
+ * A manifest of the content hashes that generated files were generated from.
+ * <p>
+ * The manifest is stored in a file, one line per generated file, in the format
+ * <code>[hash] [path]</code>, where the path is relative to the manifest file.
+ * The first line contains the hash of the code generation configuration. If
+ * that has changed since the previous run, all previously recorded hashes are
+ * discarded.
+ * <p>
+ * This manifest is thread safe, as files may be generated in parallel.
+ *
+ * @author Lukas Eder
+ */
+final class Manifest {
+
+    private static final JooqLogger   log = JooqLogger.getLogger(Manifest.class);
+
+    private final File                file;
+    private final Path                root;
+    private final String              configurationHash;
+    private final Map<String, String> previous;
+    private final Map<String, String> current;
+
+    Manifest(File file, String configurationHash) {
+        this.file = file;
+        this.root = file.getAbsoluteFile().getParentFile().toPath();
+        this.configurationHash = configurationHash;
+        this.previous = new HashMap<>();
+        this.current = new TreeMap<>();
+
+        if (file.exists()) {
+            try {
+                List<String> lines = java.nio.file.Files.readAllLines(file.toPath(), UTF_8);
+
+                if (!lines.isEmpty() && lines.get(0).equals(configurationHash)) {
+                    for (String line : lines.subList(1, lines.size())) {
+                        int i = line.indexOf(' ');
+
+                        if (i > 0)
+                            previous.put(line.substring(i + 1), line.substring(0, i));
+                    }
+                }
+                else
+                    log.info("Configuration has changed. Regenerating all files");
+            }
+            catch (IOException e) {
+                log.warn("Cannot read manifest " + file + ". Regenerating all files", e);
+            }
+        }
+    }
+
+    /**
+     * Whether a file exists and has been generated from the same hash in the
+     * previous run.
+     */
+    synchronized boolean upToDate(File generated, String hash) {
+        return hash.equals(previous.get(path(generated))) && generated.exists();
+    }
+
+    /**
+     * Record the hash a file has been generated from in this run.
+     */
+    synchronized void put(File generated, String hash) {
+        current.put(path(generated), hash);
+    }
+
+    /**
+     * Write the hashes recorded in this run to the manifest file, discarding
+     * those of files that have not been generated in this run.
+     */
+    synchronized void store() {
+        StringBuilder sb = new StringBuilder(configurationHash).append('\n');
+
+        for (Map.Entry<String, String> e : current.entrySet())
+            sb.append(e.getValue()).append(' ').append(e.getKey()).append('\n');
+
+        try {
+            file.getAbsoluteFile().getParentFile().mkdirs();
+            java.nio.file.Files.write(file.toPath(), sb.toString().getBytes(UTF_8));
+        }
+        catch (IOException e) {
+            throw new GeneratorException("Error writing manifest " + file, e);
+        }
+    }
+
+    private String path(File generated) {
+        return root.relativize(generated.getAbsoluteFile().toPath()).toString().replace('\\', '/');
+    }
+
+    /**
+     * A hex encoded SHA-256 hash of a string.
+     */
+    static String hash(String string) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(string.getBytes(UTF_8));
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+
+            for (byte b : digest)
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+
+            return sb.toString();
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new GeneratorException("SHA-256 is not supported", e);
+        }
+    }
+}
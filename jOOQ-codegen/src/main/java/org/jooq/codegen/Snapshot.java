@@ -0,0 +1,173 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.codegen;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.jooq.SQLDialect;
+import org.jooq.meta.Database;
+import org.jooq.meta.EnumDefinition;
+import org.jooq.meta.SchemaDefinition;
+import org.jooq.meta.TableDefinition;
+import org.jooq.tools.JooqLogger;
+import org.jooq.util.jaxb.tools.MiniJAXB;
+
+/**
+ * A snapshot of the meta data of a database, which is cached in a file in the
+ * format read by the <code>XMLDatabase</code>.
+ * <p>
+ * The second line of the file contains a comment with the fingerprint that
+ * the snapshot was taken for, and the dialect of the database. The snapshot is
+ * up to date if that fingerprint matches the current one.
+ *
+ * @author Lukas Eder
+ */
+final class Snapshot {
+
+    private static final JooqLogger log    = JooqLogger.getLogger(Snapshot.class);
+    private static final String     PREFIX = "<!-- jOOQ meta data snapshot: ";
+    private static final String     SUFFIX = " -->";
+
+    private final File              file;
+    private final String            fingerprint;
+    private SQLDialect              dialect;
+
+    Snapshot(File file, String fingerprint) {
+        this.file = file;
+        this.fingerprint = fingerprint;
+
+        if (file.exists()) {
+            try (BufferedReader reader = java.nio.file.Files.newBufferedReader(file.toPath(), UTF_8)) {
+                reader.readLine();
+                String line = reader.readLine();
+
+                if (line != null && line.startsWith(PREFIX + fingerprint + " ") && line.endsWith(SUFFIX))
+                    dialect = SQLDialect.valueOf(line.substring(PREFIX.length() + fingerprint.length() + 1, line.length() - SUFFIX.length()));
+            }
+            catch (IOException | IllegalArgumentException e) {
+                log.warn("Cannot read snapshot " + file + ". Fetching meta data from the database", e);
+            }
+        }
+    }
+
+    /**
+     * Whether the snapshot file has been taken for the current fingerprint.
+     */
+    boolean upToDate() {
+        return dialect != null;
+    }
+
+    /**
+     * The properties of an <code>XMLDatabase</code> reading this snapshot.
+     */
+    Properties properties() {
+        Properties result = new Properties();
+        result.setProperty("xmlFile", file.getAbsolutePath());
+        result.setProperty("dialect", dialect.name());
+        return result;
+    }
+
+    /**
+     * A generator that takes this snapshot, instead of generating code.
+     */
+    Generator generator() {
+        return new XMLGenerator() {
+            @Override
+            public void generate(Database db) {
+                List<String> unsupported = unsupported(db);
+                if (!unsupported.isEmpty())
+                    throw new GeneratorException("Cannot take a snapshot of " + String.join(", ", unsupported) + ", which the XMLDatabase does not support");
+
+                dialect = db.getDialect();
+
+                // The fingerprint goes right after the XML declaration
+                String xml = MiniJAXB.marshal(informationSchema(db));
+                int i = xml.indexOf('\n') + 1;
+
+                try {
+                    file.getAbsoluteFile().getParentFile().mkdirs();
+                    java.nio.file.Files.write(file.toPath(), (
+                        xml.substring(0, i) + PREFIX + fingerprint + " " + dialect.name() + SUFFIX + "\n" + xml.substring(i)
+                    ).getBytes(UTF_8));
+                }
+                catch (IOException e) {
+                    throw new GeneratorException("Error writing snapshot " + file, e);
+                }
+
+                log.info("Snapshot stored", file);
+            }
+        };
+    }
+
+    /**
+     * The object types in a database that cannot be represented in a snapshot.
+     */
+    private static List<String> unsupported(Database db) {
+        List<String> result = new ArrayList<>();
+
+        for (SchemaDefinition schema : db.getSchemata()) {
+            if (!db.getUDTs(schema).isEmpty() && !result.contains("UDTs"))
+                result.add("UDTs");
+            if (!db.getArrays(schema).isEmpty() && !result.contains("ARRAYs"))
+                result.add("ARRAYs");
+            if (!db.getDomains(schema).isEmpty() && !result.contains("domains"))
+                result.add("domains");
+
+            for (EnumDefinition e : db.getEnums(schema))
+                if (!e.isSynthetic() && !result.contains("enums"))
+                    result.add("enums");
+
+            // The XMLDatabase reads these as ordinary tables and views
+            for (TableDefinition t : db.getTables(schema)) {
+                if (t.isTableValuedFunction() && !result.contains("table-valued functions"))
+                    result.add("table-valued functions");
+                if (t.isMaterializedView() && !result.contains("materialized views"))
+                    result.add("materialized views");
+            }
+        }
+
+        return result;
+    }
+}
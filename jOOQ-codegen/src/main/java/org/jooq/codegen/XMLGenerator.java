@@ -111,6 +111,16 @@ public class XMLGenerator extends AbstractGenerator {
         log.info("Generating XML", out.file().getName());
         log.info("==========================================================");
 
+        StringWriter writer = new StringWriter();
+        MiniJAXB.marshal(informationSchema(db), writer);
+        out.print(writer.toString());
+        out.close();
+    }
+
+    /**
+     * Export the meta data of a database to an {@link InformationSchema}.
+     */
+    final InformationSchema informationSchema(Database db) {
         InformationSchema is = new InformationSchema();
 
         boolean hasNonDefaultCatalogs = false;
@@ -392,10 +402,7 @@ public class XMLGenerator extends AbstractGenerator {
             }
         }
 
-        StringWriter writer = new StringWriter();
-        MiniJAXB.marshal(is, writer);
-        out.print(writer.toString());
-        out.close();
+        return is;
     }
 
     private void exportRoutine(InformationSchema is, RoutineDefinition r, String catalogName, String schemaName) {
@@ -44,7 +44,6 @@ import static org.jooq.tools.StringUtils.isBlank;
 import java.io.File;
 import java.io.Reader;
 import java.sql.SQLException;
-import java.util.Scanner;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -53,7 +52,6 @@ import org.jooq.FilePattern;
 import org.jooq.FilePattern.Sort;
 import org.jooq.Name;
 import org.jooq.Name.Quoted;
-import org.jooq.Queries;
 import org.jooq.Query;
 import org.jooq.ResultQuery;
 import org.jooq.Source;
@@ -165,8 +163,9 @@ public class DDLDatabase extends AbstractInterpretingDatabase {
         Reader r = null;
 
         try {
-            Scanner s = new Scanner(r = source.reader()).useDelimiter("\\A");
-            Queries queries = ctx.parser().parse(s.hasNext() ? s.next() : "");
+            // Scripts are parsed lazily, statement by statement, to avoid
+            // holding very large scripts in memory
+            Iterable<Query> queries = ctx.parser().parseStream(r = source.reader())::iterator;
 
             for (Query query : queries) {
 
@@ -59,6 +59,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -70,13 +71,21 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import org.jooq.Condition;
 import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
 import org.jooq.DSLContext;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
@@ -113,7 +122,6 @@ import org.jooq.meta.jaxb.EmbeddableDefinitionType;
 import org.jooq.meta.jaxb.EmbeddableField;
 import org.jooq.meta.jaxb.EnumType;
 import org.jooq.meta.jaxb.ForcedType;
-import org.jooq.meta.jaxb.ForcedTypeObjectType;
 import org.jooq.meta.jaxb.Nullability;
 import org.jooq.meta.jaxb.OnError;
 import org.jooq.meta.jaxb.RegexFlag;
@@ -194,6 +202,7 @@ public abstract class AbstractDatabase implements Database {
     private List<EnumType>                                                   configuredEnumTypes                  = new ArrayList<>();
     private List<ForcedType>                                                 configuredForcedTypes                = new ArrayList<>();
     private Set<ForcedType>                                                  unusedForcedTypes                    = new HashSet<>();
+    private ForcedTypeIndex                                                  forcedTypeIndex;
     private List<EmbeddableDefinitionType>                                   configuredEmbeddables                = new ArrayList<>();
     private Set<EmbeddableDefinitionType>                                    unusedEmbeddables                    = new HashSet<>();
     private List<CommentType>                                                configuredComments                   = new ArrayList<>();
@@ -215,6 +224,8 @@ public abstract class AbstractDatabase implements Database {
     private boolean                                                          tableValuedFunctions                 = true;
     private int                                                              logSlowQueriesAfterSeconds;
     private int                                                              logSlowResultsAfterSeconds;
+    private int                                                              parallelism                          = 1;
+    private ConnectionProvider                                               connectionProvider;
 
     // -------------------------------------------------------------------------
     // Loaded definitions
@@ -243,6 +254,7 @@ public abstract class AbstractDatabase implements Database {
     private List<RoutineDefinition>                                          routines;
     private List<PackageDefinition>                                          packages;
     private Relations                                                        relations;
+    private Map<String, Future<List<?>>>                                     fetching;
 
     private transient Map<SchemaDefinition, List<SequenceDefinition>>        sequencesBySchema;
     private transient Map<SchemaDefinition, List<IdentityDefinition>>        identitiesBySchema;
@@ -272,12 +284,14 @@ public abstract class AbstractDatabase implements Database {
     private final List<Definition>                                           excluded;
     private final Map<Table<?>, Boolean>                                     existTables;
     private final Map<TableField<?, ?>, Boolean>                             existFields;
+    private final ThreadLocal<Connection>                                    fetchConnection;
     private final Patterns                                                   patterns;
     private final Statements                                                 statements;
 
     protected AbstractDatabase() {
-        existTables = new HashMap<>();
-        existFields = new HashMap<>();
+        existTables = new ConcurrentHashMap<>();
+        existFields = new ConcurrentHashMap<>();
+        fetchConnection = new ThreadLocal<>();
         patterns = new Patterns();
         statements = new Statements();
         filters = new ArrayList<>();
@@ -303,7 +317,11 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final Connection getConnection() {
-        return connection;
+
+        // Meta data of different object types may be fetched concurrently,
+        // each on its own connection
+        Connection c = fetchConnection.get();
+        return c != null ? c : connection;
     }
 
     @Override
@@ -456,7 +474,22 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final boolean exists(TableField<?, ?> field) {
-        return existFields.computeIfAbsent(field, this::exists0);
+        return exists(existFields, field, this::exists0);
+    }
+
+    /**
+     * Look up a cached existence check, or run it. Unlike
+     * {@link Map#computeIfAbsent(Object, java.util.function.Function)}, this doesn't lock the
+     * cache while running the check, which may recurse into the cache, or
+     * run concurrently when meta data is fetched concurrently.
+     */
+    private static <K> boolean exists(Map<K, Boolean> cache, K key, Predicate<? super K> check) {
+        Boolean result = cache.get(key);
+
+        if (result == null)
+            cache.put(key, result = check.test(key));
+
+        return result;
     }
 
     /**
@@ -517,7 +550,7 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final boolean exists(Table<?> table) {
-        return existTables.computeIfAbsent(table, this::exists0);
+        return exists(existTables, table, this::exists0);
     }
 
     /**
@@ -600,6 +633,39 @@ public abstract class AbstractDatabase implements Database {
         return false;
     }
 
+    /**
+     * The names of a definition that {@link #matches(Pattern, Definition)} and
+     * {@link #matches(Set, Definition)} match against, for repeated matching.
+     */
+    private static List<String> names(Definition definition, boolean partialQualification) {
+        if (!partialQualification)
+            return Arrays.asList(definition.getName(), definition.getQualifiedName());
+
+        Name[] parts = definition.getQualifiedNamePart().parts();
+        List<String> result = new ArrayList<>(parts.length);
+
+        for (int i = parts.length - 1; i >= 0; i--)
+            result.add(DSL.name(Arrays.copyOfRange(parts, i, parts.length)).unquotedName().toString());
+
+        return result;
+    }
+
+    private static boolean matches(Pattern pattern, List<String> names) {
+        for (String name : names)
+            if (pattern.matcher(name).matches())
+                return true;
+
+        return false;
+    }
+
+    private static boolean matches(Set<?> set, List<String> names) {
+        for (String name : names)
+            if (set.contains(name))
+                return true;
+
+        return false;
+    }
+
     @Override
     public final Map<Definition, String> getSources() {
         if (sources == null) {
@@ -1145,6 +1211,7 @@ public abstract class AbstractDatabase implements Database {
     @Override
     public final void setRegexFlags(List<RegexFlag> regexFlags) {
         this.patterns.setRegexFlags(regexFlags);
+        this.forcedTypeIndex = null;
     }
 
     @Override
@@ -1386,7 +1453,7 @@ public abstract class AbstractDatabase implements Database {
     }
 
     @Override
-    public void markUsed(ForcedType forcedType) {
+    public synchronized void markUsed(ForcedType forcedType) {
         unusedForcedTypes.remove(forcedType);
     }
 
@@ -1403,6 +1470,7 @@ public abstract class AbstractDatabase implements Database {
         //         append it.
         getConfiguredForcedTypes().addAll(configuredForcedTypes);
         unusedForcedTypes.addAll(configuredForcedTypes);
+        forcedTypeIndex = null;
     }
 
     @Override
@@ -1433,6 +1501,26 @@ public abstract class AbstractDatabase implements Database {
         this.logSlowResultsAfterSeconds = logSlowResultsAfterSeconds;
     }
 
+    @Override
+    public final int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public final void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public final ConnectionProvider getConnectionProvider() {
+        return connectionProvider;
+    }
+
+    @Override
+    public final void setConnectionProvider(ConnectionProvider connectionProvider) {
+        this.connectionProvider = connectionProvider;
+    }
+
     @Override
     public final SchemaVersionProvider getSchemaVersionProvider() {
         return schemaVersionProvider;
@@ -1550,7 +1638,7 @@ public abstract class AbstractDatabase implements Database {
 
             if (getIncludeSequences()) {
                 onError(ERROR, "Error while fetching sequences", () -> {
-                    List<SequenceDefinition> s = getSequences0();
+                    List<SequenceDefinition> s = fetch("sequences", this::getSequences0);
 
                     sequences = sort(filterExcludeInclude(s));
                     log.info("Sequences fetched", fetchedSize(s, sequences));
@@ -1717,7 +1805,7 @@ public abstract class AbstractDatabase implements Database {
 
             if (getIncludeTables()) {
                 onError(ERROR, "Error while fetching tables", () -> {
-                    List<TableDefinition> t = getTables0();
+                    List<TableDefinition> t = fetch("tables", this::getTables0);
                     syntheticViews(t);
                     tables = sort(filterExcludeInclude(t));
                     log.info("Tables fetched", fetchedSize(t, tables));
@@ -1807,56 +1895,66 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final ForcedType getConfiguredForcedType(Definition definition, DataTypeDefinition definedType) {
+        ForcedTypeIndex index = forcedTypeIndex();
+        List<String> names = names(definition, getRegexMatchesPartialQualification());
+        List<String> sqlNames = null;
+        BitSet candidates = index.candidates(names);
 
         // [#5885] Only the first matching <forcedType/> is applied to the data type definition.
-        forcedTypeLoop:
-        for (ForcedType forcedType : getConfiguredForcedTypes()) {
-            String excludeExpression = forcedType.getExcludeExpression();
-            String includeExpression = StringUtils.firstNonNull(forcedType.getIncludeExpression(), forcedType.getExpression(), forcedType.getExpressions());
-            String excludeTypes = forcedType.getExcludeTypes();
-            String includeTypes = StringUtils.firstNonNull(forcedType.getIncludeTypes(), forcedType.getTypes());
-            Nullability nullability = forcedType.getNullability();
-            ForcedTypeObjectType objectType = forcedType.getObjectType();
-            String sql = forcedType.getSql();
-
-            if (     (objectType != null && objectType != ForcedTypeObjectType.ALL)
-                 && ((objectType == ForcedTypeObjectType.ATTRIBUTE && !(definition instanceof AttributeDefinition))
-                 ||  (objectType == ForcedTypeObjectType.COLUMN && !(definition instanceof ColumnDefinition))
-                 ||  (objectType == ForcedTypeObjectType.ELEMENT && !(definition instanceof ArrayDefinition))
-                 ||  (objectType == ForcedTypeObjectType.PARAMETER && !(definition instanceof ParameterDefinition))
-                 ||  (objectType == ForcedTypeObjectType.SEQUENCE && !(definition instanceof SequenceDefinition))))
-                continue forcedTypeLoop;
-
-            if (     (nullability != null && nullability != Nullability.ALL && definedType != null)
-                 && ((nullability == Nullability.NOT_NULL && definedType.isNullable())
-                 ||  (nullability == Nullability.NULL && !definedType.isNullable())))
-                continue forcedTypeLoop;
-
-            if (excludeExpression != null && matches(patterns.pattern(excludeExpression), definition))
-                continue forcedTypeLoop;
-
-            if (includeExpression != null && !matches(patterns.pattern(includeExpression), definition))
-                continue forcedTypeLoop;
-
-            if (    (definedType != null && (excludeTypes != null || includeTypes != null))
-                 && !typeMatchesExcludeInclude(definedType, excludeTypes, includeTypes))
-                continue forcedTypeLoop;
-
-            if (sql != null)
-                if (!matches(statements.fetchSet(sql), definition))
-                    continue forcedTypeLoop;
-
-            return forcedType;
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            ForcedTypeIndex.Rule rule = index.rule(i);
+
+            if (rule.objectType != null && !rule.objectType.isInstance(definition))
+                continue;
+
+            if (     (rule.nullability != null && definedType != null)
+                 && ((rule.nullability == Nullability.NOT_NULL && definedType.isNullable())
+                 ||  (rule.nullability == Nullability.NULL && !definedType.isNullable())))
+                continue;
+
+            if (rule.exclude != null && matches(rule.exclude, names))
+                continue;
+
+            if (rule.include != null && !matches(rule.include, names))
+                continue;
+
+            if (    (definedType != null && (rule.excludeTypes != null || rule.includeTypes != null))
+                 && !typeMatchesExcludeInclude(definedType, rule.excludeTypes, rule.includeTypes))
+                continue;
+
+            if (rule.sql != null) {
+                if (sqlNames == null)
+                    sqlNames = names(definition, getSqlMatchesPartialQualification());
+
+                if (!matches(statements.fetchSet(rule.sql), sqlNames))
+                    continue;
+            }
+
+            return rule.forcedType;
         }
 
         return null;
     }
 
-    private boolean typeMatchesExcludeInclude(DataTypeDefinition type, String exclude, String include) {
-        if (exclude != null && matches(type, patterns.pattern(exclude)))
+    /**
+     * The {@link ForcedTypeIndex} of the {@link #getConfiguredForcedTypes()},
+     * which is rebuilt if forced types have been added since it was last
+     * built.
+     */
+    private final synchronized ForcedTypeIndex forcedTypeIndex() {
+        List<ForcedType> list = getConfiguredForcedTypes();
+
+        if (forcedTypeIndex == null || forcedTypeIndex.size() != list.size())
+            forcedTypeIndex = new ForcedTypeIndex(patterns, list);
+
+        return forcedTypeIndex;
+    }
+
+    private boolean typeMatchesExcludeInclude(DataTypeDefinition type, Pattern exclude, Pattern include) {
+        if (exclude != null && matches(type, exclude))
             return false;
 
-        return include == null || matches(type, patterns.pattern(include));
+        return include == null || matches(type, include);
     }
 
     private boolean matches(DataTypeDefinition type, Pattern pattern) {
@@ -1976,7 +2074,7 @@ public abstract class AbstractDatabase implements Database {
     }
 
     @Override
-    public final List<EmbeddableDefinition> getEmbeddables(TableDefinition table) {
+    public final synchronized List<EmbeddableDefinition> getEmbeddables(TableDefinition table) {
         if (embeddablesByDefiningTable == null)
             embeddablesByDefiningTable = new LinkedHashMap<>();
 
@@ -1984,7 +2082,7 @@ public abstract class AbstractDatabase implements Database {
     }
 
     @Override
-    public final List<EmbeddableDefinition> getEmbeddablesByReferencingTable(TableDefinition table) {
+    public final synchronized List<EmbeddableDefinition> getEmbeddablesByReferencingTable(TableDefinition table) {
         if (embeddablesByReferencingTable == null)
             embeddablesByReferencingTable = new LinkedHashMap<>();
 
@@ -2197,7 +2295,7 @@ public abstract class AbstractDatabase implements Database {
 
             if (getIncludeDomains()) {
                 onError(ERROR, "Error while fetching domains", () -> {
-                    List<DomainDefinition> e = getDomains0();
+                    List<DomainDefinition> e = fetch("domains", this::getDomains0);
 
                     domains = sort(filterExcludeInclude(e));
                     log.info("Domains fetched", fetchedSize(e, domains));
@@ -2245,7 +2343,7 @@ public abstract class AbstractDatabase implements Database {
 
             if (getIncludeUDTs()) {
                 onError(ERROR, "Error while fetching ARRAYs", () -> {
-                    List<ArrayDefinition> a = getArrays0();
+                    List<ArrayDefinition> a = fetch("ARRAYs", this::getArrays0);
 
                     arrays = sort(filterExcludeInclude(a));
                     log.info("ARRAYs fetched", fetchedSize(a, arrays));
@@ -2288,7 +2386,7 @@ public abstract class AbstractDatabase implements Database {
 
             if (getIncludeUDTs()) {
                 onError(ERROR, "Error while fetching UDTs", () -> {
-                    List<UDTDefinition> u = getUDTs0();
+                    List<UDTDefinition> u = fetch("UDTs", this::getUDTs0);
 
                     udts = sort(filterExcludeInclude(u));
                     log.info("UDTs fetched", fetchedSize(u, udts));
@@ -2376,7 +2474,7 @@ public abstract class AbstractDatabase implements Database {
     }
 
     @Override
-    public final List<IndexDefinition> getIndexes(TableDefinition table) {
+    public final synchronized List<IndexDefinition> getIndexes(TableDefinition table) {
         if (indexesByTable == null)
             indexesByTable = new HashMap<>();
 
@@ -2402,7 +2500,7 @@ public abstract class AbstractDatabase implements Database {
 
             if (getIncludeRoutines()) {
                 onError(ERROR, "Error while fetching routines", () -> {
-                    List<RoutineDefinition> r = getRoutines0();
+                    List<RoutineDefinition> r = fetch("routines", this::getRoutines0);
 
                     routines = sort(filterExcludeInclude(r));
                     log.info("Routines fetched", fetchedSize(r, routines));
@@ -2425,7 +2523,7 @@ public abstract class AbstractDatabase implements Database {
 
             if (getIncludePackages()) {
                 onError(ERROR, "Error while fetching packages", () -> {
-                    List<PackageDefinition> p = getPackages0();
+                    List<PackageDefinition> p = fetch("packages", this::getPackages0);
 
                     packages = sort(filterExcludeInclude(p));
                     log.info("Packages fetched", fetchedSize(p, packages));
@@ -2477,7 +2575,9 @@ public abstract class AbstractDatabase implements Database {
     }
 
     protected final <T extends Definition> List<T> filterSchema(List<T> definitions, SchemaDefinition schema, Map<SchemaDefinition, List<T>> cache) {
-        return cache.computeIfAbsent(schema, s -> filterSchema(definitions, s));
+        synchronized (cache) {
+            return cache.computeIfAbsent(schema, s -> filterSchema(definitions, s));
+        }
     }
 
     protected final <T extends Definition> List<T> filterSchema(List<T> definitions, SchemaDefinition schema) {
@@ -2511,14 +2611,16 @@ public abstract class AbstractDatabase implements Database {
     }
 
     protected final <T extends TableElementDefinition> List<T> filterTable(List<T> definitions, TableDefinition table, Map<TableDefinition, List<T>> cache) {
-        List<T> result = cache.get(table);
+        synchronized (cache) {
+            List<T> result = cache.get(table);
 
-        if (result == null) {
-            result = filterTable(definitions, table);
-            cache.put(table, result);
-        }
+            if (result == null) {
+                result = filterTable(definitions, table);
+                cache.put(table, result);
+            }
 
-        return result;
+            return result;
+        }
     }
 
     protected final <T extends TableElementDefinition> List<T> filterTable(List<T> definitions, TableDefinition table) {
@@ -2535,14 +2637,16 @@ public abstract class AbstractDatabase implements Database {
     }
 
     private final <T extends EmbeddableDefinition> List<T> filterReferencingTable(List<T> definitions, TableDefinition table, Map<TableDefinition, List<T>> cache) {
-        List<T> result = cache.get(table);
+        synchronized (cache) {
+            List<T> result = cache.get(table);
 
-        if (result == null) {
-            result = filterReferencingTable(definitions, table);
-            cache.put(table, result);
-        }
+            if (result == null) {
+                result = filterReferencingTable(definitions, table);
+                cache.put(table, result);
+            }
 
-        return result;
+            return result;
+        }
     }
 
     private final <T extends EmbeddableDefinition> List<T> filterReferencingTable(List<T> definitions, TableDefinition table) {
@@ -2612,43 +2716,47 @@ public abstract class AbstractDatabase implements Database {
 
     protected final <T extends Definition> List<T> filterExcludeInclude(List<T> definitions, String[] e, String[] i, List<Filter> f) {
         List<T> result = new ArrayList<>();
+        Pattern excludes = patterns.combined(e);
+        Pattern includes = patterns.combined(i);
 
         definitionsLoop: for (T definition : definitions) {
+            List<String> names = names(definition, getRegexMatchesPartialQualification());
+
             if (e != null) {
-                for (String exclude : e) {
-                    if (exclude != null && matches(patterns.pattern(exclude), definition)) {
-                        if (log.isDebugEnabled())
-                            log.debug("Exclude", "Excluding " + definition.getQualifiedName() + " because of pattern " + exclude);
+                String exclude = matching(e, excludes, names);
 
-                        continue definitionsLoop;
-                    }
+                if (exclude != null) {
+                    if (log.isDebugEnabled())
+                        log.debug("Exclude", "Excluding " + definition.getQualifiedName() + " because of pattern " + exclude);
+
+                    continue definitionsLoop;
                 }
             }
 
             if (i != null) {
-                for (String include : i) {
-                    if (include != null && matches(patterns.pattern(include), definition)) {
+                String include = matching(i, includes, names);
 
-                        // [#3488] This allows for filtering out additional objects, in case the applicable
-                        // code generation configuration might cause conflicts in resulting code
-                        // [#3526] Filters should be applied last, after <exclude/> and <include/>
-                        for (Filter filter : f) {
-                            if (filter.exclude(definition)) {
+                if (include != null) {
 
-                                if (log.isDebugEnabled())
-                                    log.debug("Exclude", "Excluding " + definition.getQualifiedName() + " because of filter " + filter);
+                    // [#3488] This allows for filtering out additional objects, in case the applicable
+                    // code generation configuration might cause conflicts in resulting code
+                    // [#3526] Filters should be applied last, after <exclude/> and <include/>
+                    for (Filter filter : f) {
+                        if (filter.exclude(definition)) {
 
-                                continue definitionsLoop;
-                            }
+                            if (log.isDebugEnabled())
+                                log.debug("Exclude", "Excluding " + definition.getQualifiedName() + " because of filter " + filter);
+
+                            continue definitionsLoop;
                         }
+                    }
 
-                        result.add(definition);
+                    result.add(definition);
 
-                        if (log.isDebugEnabled())
-                            log.debug("Include", "Including " + definition.getQualifiedName() + " because of pattern " + include);
+                    if (log.isDebugEnabled())
+                        log.debug("Include", "Including " + definition.getQualifiedName() + " because of pattern " + include);
 
-                        continue definitionsLoop;
-                    }
+                    continue definitionsLoop;
                 }
             }
         }
@@ -2656,6 +2764,29 @@ public abstract class AbstractDatabase implements Database {
         return result;
     }
 
+    /**
+     * The regular expression among <code>regexes</code> that matches any of the
+     * <code>names</code>, or <code>null</code> if none matches.
+     * <p>
+     * If the regular expressions could be {@link Patterns#combined(String[])},
+     * the combined pattern is matched first, and the individual matching
+     * regular expression is looked up only for debug logging.
+     */
+    private final String matching(String[] regexes, Pattern combined, List<String> names) {
+        if (combined != null) {
+            if (!matches(combined, names))
+                return null;
+            else if (!log.isDebugEnabled())
+                return combined.pattern();
+        }
+
+        for (String regex : regexes)
+            if (regex != null && matches(patterns.pattern(regex), names))
+                return regex;
+
+        return null;
+    }
+
     /**
      * Retrieve ALL relations from the database.
      */
@@ -3208,6 +3339,94 @@ public abstract class AbstractDatabase implements Database {
         return type;
     }
 
+    /**
+     * Fetch the meta data of an object type, either from the
+     * {@link #fetchConcurrently()} results or directly.
+     */
+    @SuppressWarnings("unchecked")
+    private final <D extends Definition> List<D> fetch(String objectType, Callable<List<D>> fetch) throws Exception {
+        if (fetching == null)
+            fetching = fetchConcurrently();
+
+        Future<List<?>> future = fetching.remove(objectType);
+        if (future == null)
+            return fetch.call();
+
+        try {
+            return (List<D>) future.get();
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception)
+                throw (Exception) e.getCause();
+            else if (e.getCause() instanceof Error)
+                throw (Error) e.getCause();
+            else
+                throw e;
+        }
+    }
+
+    /**
+     * Start fetching the meta data of independent object types concurrently,
+     * if a {@link #getParallelism()} greater than one and a
+     * {@link #getConnectionProvider()} are configured.
+     * <p>
+     * Each object type is fetched on its own connection. Catalogs and schemata
+     * are loaded upfront by the calling thread, which also filters and sorts
+     * the fetched results, so the outcome does not depend on the parallelism.
+     * Object types whose fetching depends on other object types (e.g. enums,
+     * indexes, relations) are always fetched by the calling thread.
+     */
+    private final Map<String, Future<List<?>>> fetchConcurrently() {
+        Map<String, Future<List<?>>> result = new HashMap<>();
+
+        if (parallelism <= 1 || connectionProvider == null)
+            return result;
+
+        getDialect();
+        getCatalogs();
+        getSchemata();
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+
+        try {
+            if (getIncludeTables())
+                result.put("tables", executor.submit(fetchTask(this::getTables0)));
+            if (getIncludeSequences())
+                result.put("sequences", executor.submit(fetchTask(this::getSequences0)));
+            if (getIncludeRoutines())
+                result.put("routines", executor.submit(fetchTask(this::getRoutines0)));
+            if (getIncludePackages())
+                result.put("packages", executor.submit(fetchTask(this::getPackages0)));
+            if (getIncludeUDTs()) {
+                result.put("UDTs", executor.submit(fetchTask(this::getUDTs0)));
+                result.put("ARRAYs", executor.submit(fetchTask(this::getArrays0)));
+            }
+            if (getIncludeDomains())
+                result.put("domains", executor.submit(fetchTask(this::getDomains0)));
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        log.info("Fetching meta data concurrently", result.keySet() + " using " + parallelism + " connections");
+        return result;
+    }
+
+    private final Callable<List<?>> fetchTask(Callable<? extends List<?>> fetch) {
+        return () -> {
+            Connection c = connectionProvider.acquire();
+
+            try {
+                fetchConnection.set(c);
+                return fetch.call();
+            }
+            finally {
+                fetchConnection.remove();
+                connectionProvider.release(c);
+            }
+        };
+    }
+
     @FunctionalInterface
     private interface ExceptionRunnable {
         void run() throws Exception;
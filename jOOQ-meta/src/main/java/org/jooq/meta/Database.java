@@ -44,6 +44,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
+import org.jooq.ConnectionProvider;
 import org.jooq.DSLContext;
 import org.jooq.Name;
 import org.jooq.SQLDialect;
@@ -924,6 +925,32 @@ public interface Database extends AutoCloseable {
      */
     void setLogSlowResultsAfterSeconds(int logSlowResultsAfterSeconds);
 
+    /**
+     * The number of connections used to fetch meta data of different object
+     * types concurrently.
+     */
+    int getParallelism();
+
+    /**
+     * The number of connections used to fetch meta data of different object
+     * types concurrently.
+     */
+    void setParallelism(int parallelism);
+
+    /**
+     * The provider of additional connections used when meta data is fetched
+     * concurrently, or <code>null</code> if only the connection set through
+     * {@link #setConnection(Connection)} may be used.
+     */
+    ConnectionProvider getConnectionProvider();
+
+    /**
+     * The provider of additional connections used when meta data is fetched
+     * concurrently, or <code>null</code> if only the connection set through
+     * {@link #setConnection(Connection)} may be used.
+     */
+    void setConnectionProvider(ConnectionProvider connectionProvider);
+
     /**
      * The database's schema version provider.
      */
@@ -304,7 +304,7 @@ public class DefaultRelations implements Relations {
     }
 
 	@Override
-	public UniqueKeyDefinition getPrimaryKey(ColumnDefinition column) {
+	public synchronized UniqueKeyDefinition getPrimaryKey(ColumnDefinition column) {
 	    if (primaryKeysByColumn == null) {
 	        primaryKeysByColumn = new LinkedHashMap<>();
 
@@ -317,7 +317,7 @@ public class DefaultRelations implements Relations {
 	}
 
 	@Override
-    public List<UniqueKeyDefinition> getUniqueKeys(ColumnDefinition column) {
+    public synchronized List<UniqueKeyDefinition> getUniqueKeys(ColumnDefinition column) {
 	    if (uniqueKeysByColumn == null) {
 	        uniqueKeysByColumn = new LinkedHashMap<>();
 
@@ -356,7 +356,7 @@ public class DefaultRelations implements Relations {
     }
 
     @Override
-    public List<UniqueKeyDefinition> getKeys(ColumnDefinition column) {
+    public synchronized List<UniqueKeyDefinition> getKeys(ColumnDefinition column) {
         if (keysByColumn == null) {
             keysByColumn = new LinkedHashMap<>();
 
@@ -395,7 +395,7 @@ public class DefaultRelations implements Relations {
     }
 
     @Override
-	public List<ForeignKeyDefinition> getForeignKeys(ColumnDefinition column) {
+	public synchronized List<ForeignKeyDefinition> getForeignKeys(ColumnDefinition column) {
         if (foreignKeysByColumn == null) {
             foreignKeysByColumn = new LinkedHashMap<>();
 
@@ -420,7 +420,7 @@ public class DefaultRelations implements Relations {
     }
 
     @Override
-    public List<CheckConstraintDefinition> getCheckConstraints(TableDefinition table) {
+    public synchronized List<CheckConstraintDefinition> getCheckConstraints(TableDefinition table) {
         if (checkConstraintsByTable == null) {
             checkConstraintsByTable = new LinkedHashMap<>();
             checkConstraints.forEach((k, v) -> checkConstraintsByTable.computeIfAbsent(k.table, t -> new ArrayList<>()).add(v));
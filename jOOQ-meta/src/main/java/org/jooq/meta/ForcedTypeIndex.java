@@ -0,0 +1,296 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.meta;
+
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static java.util.regex.Pattern.COMMENTS;
+import static java.util.regex.Pattern.DOTALL;
+import static java.util.regex.Pattern.MULTILINE;
+import static java.util.regex.Pattern.UNIX_LINES;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import org.jooq.meta.jaxb.ForcedType;
+import org.jooq.meta.jaxb.ForcedTypeObjectType;
+import org.jooq.meta.jaxb.Nullability;
+import org.jooq.tools.StringUtils;
+
+/**
+ * A precompiled index of {@link ForcedType} configurations.
+ * <p>
+ * Forced types whose include expression starts with a literal prefix or ends
+ * with a literal suffix are bucketed by that prefix or suffix, such that only
+ * those forced types need to be evaluated for a definition whose names start
+ * with the prefix or end with the suffix. All other forced types are
+ * candidates for all definitions.
+ *
+ * @author Lukas Eder
+ */
+final class ForcedTypeIndex {
+
+    /**
+     * The regular expression flags that do not affect the meaning of a literal
+     * prefix or suffix of a pattern, made only of ASCII letters, digits, and
+     * underscores.
+     */
+    private static final int          PREFIX_FLAGS = CASE_INSENSITIVE | COMMENTS | DOTALL | MULTILINE | UNIX_LINES;
+
+    private final Rule[]              rules;
+    private final BitSet              unindexed;
+    private final Map<String, BitSet> prefixes;
+    private final Map<String, BitSet> suffixes;
+    private final int[]               prefixLengths;
+    private final int[]               suffixLengths;
+
+    ForcedTypeIndex(Patterns patterns, List<ForcedType> forcedTypes) {
+        this.rules = new Rule[forcedTypes.size()];
+        this.unindexed = new BitSet();
+        this.prefixes = new HashMap<>();
+        this.suffixes = new HashMap<>();
+
+        TreeSet<Integer> p = new TreeSet<>();
+        TreeSet<Integer> s = new TreeSet<>();
+        for (int i = 0; i < rules.length; i++) {
+            Rule rule = rules[i] = new Rule(patterns, forcedTypes.get(i));
+            String prefix = prefix(rule.include);
+            String suffix = suffix(rule.include);
+
+            if (prefix.isEmpty() && suffix.isEmpty()) {
+                unindexed.set(i);
+            }
+            else if (prefix.length() >= suffix.length()) {
+                prefixes.computeIfAbsent(prefix, k -> new BitSet()).set(i);
+                p.add(prefix.length());
+            }
+            else {
+                suffixes.computeIfAbsent(suffix, k -> new BitSet()).set(i);
+                s.add(suffix.length());
+            }
+        }
+
+        this.prefixLengths = toArray(p);
+        this.suffixLengths = toArray(s);
+    }
+
+    private static int[] toArray(TreeSet<Integer> set) {
+        int[] result = new int[set.size()];
+
+        int i = 0;
+        for (Integer value : set)
+            result[i++] = value;
+
+        return result;
+    }
+
+    /**
+     * The number of indexed forced types.
+     */
+    final int size() {
+        return rules.length;
+    }
+
+    /**
+     * The forced type at a given position.
+     */
+    final Rule rule(int index) {
+        return rules[index];
+    }
+
+    /**
+     * The positions of all forced types whose include expression may match any
+     * of the argument names.
+     */
+    final BitSet candidates(List<String> names) {
+        BitSet result = (BitSet) unindexed.clone();
+
+        for (String name : names) {
+            String folded = fold(name);
+
+            for (int length : prefixLengths) {
+                if (length > folded.length())
+                    break;
+
+                BitSet bucket = prefixes.get(folded.substring(0, length));
+                if (bucket != null)
+                    result.or(bucket);
+            }
+
+            for (int length : suffixLengths) {
+                if (length > folded.length())
+                    break;
+
+                BitSet bucket = suffixes.get(folded.substring(folded.length() - length));
+                if (bucket != null)
+                    result.or(bucket);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * The case folded literal prefix that all strings matched by a pattern
+     * must start with, or the empty string if there is no such prefix.
+     * <p>
+     * The prefix is computed conservatively. Patterns containing alternations
+     * or special flags have no prefix, and the prefix ends before the first
+     * character that is not an ASCII letter, digit, or underscore.
+     */
+    private static String prefix(Pattern pattern) {
+        if (!indexable(pattern))
+            return "";
+
+        String regex = pattern.pattern();
+
+        int i = 0;
+        while (i < regex.length() && isLiteral(regex.charAt(i)))
+            i++;
+
+        // The last literal may be quantified, e.g. AB? or, with Pattern.COMMENTS, AB ?
+        if (i < regex.length() && i > 0 && ".\\[($".indexOf(regex.charAt(i)) < 0)
+            i--;
+
+        return fold(regex.substring(0, i));
+    }
+
+    /**
+     * The case folded literal suffix that all strings matched by a pattern
+     * must end with, or the empty string if there is no such suffix.
+     * <p>
+     * The suffix is computed like the {@link #prefix(Pattern)}. In order not to
+     * mistake the end of an escape sequence, like <code>\x41</code>, or a
+     * character class for a literal, the suffix must be preceded by a
+     * <code>.</code> or a quantifier.
+     */
+    private static String suffix(Pattern pattern) {
+        if (!indexable(pattern))
+            return "";
+
+        String regex = pattern.pattern();
+        if ((pattern.flags() & COMMENTS) != 0 && regex.indexOf('#') >= 0)
+            return "";
+
+        int i = regex.length();
+        while (i > 0 && isLiteral(regex.charAt(i - 1)))
+            i--;
+
+        if (i == 0 || i == regex.length() || ".*+?".indexOf(regex.charAt(i - 1)) < 0)
+            return "";
+
+        return fold(regex.substring(i));
+    }
+
+    private static boolean indexable(Pattern pattern) {
+        return pattern != null
+            && (pattern.flags() & ~PREFIX_FLAGS) == 0
+            && pattern.pattern().indexOf('|') < 0;
+    }
+
+    private static boolean isLiteral(char c) {
+        return c >= 'a' && c <= 'z'
+            || c >= 'A' && c <= 'Z'
+            || c >= '0' && c <= '9'
+            || c == '_';
+    }
+
+    /**
+     * Fold ASCII upper case letters to lower case, which is how
+     * {@link Pattern#CASE_INSENSITIVE} matches them, unless
+     * {@link Pattern#UNICODE_CASE} is also specified.
+     */
+    private static String fold(String string) {
+        char[] chars = null;
+
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+
+            if (c >= 'A' && c <= 'Z') {
+                if (chars == null)
+                    chars = string.toCharArray();
+
+                chars[i] = (char) (c + ('a' - 'A'));
+            }
+        }
+
+        return chars == null ? string : new String(chars);
+    }
+
+    /**
+     * A {@link ForcedType} with precompiled patterns.
+     */
+    static final class Rule {
+        final ForcedType  forcedType;
+        final Class<?>    objectType;
+        final Nullability nullability;
+        final Pattern     exclude;
+        final Pattern     include;
+        final Pattern     excludeTypes;
+        final Pattern     includeTypes;
+        final String      sql;
+
+        Rule(Patterns patterns, ForcedType forcedType) {
+            this.forcedType = forcedType;
+            this.objectType = objectType(forcedType.getObjectType());
+            this.nullability = forcedType.getNullability() == Nullability.ALL ? null : forcedType.getNullability();
+            this.exclude = patterns.pattern(forcedType.getExcludeExpression());
+            this.include = patterns.pattern(StringUtils.firstNonNull(forcedType.getIncludeExpression(), forcedType.getExpression(), forcedType.getExpressions()));
+            this.excludeTypes = patterns.pattern(forcedType.getExcludeTypes());
+            this.includeTypes = patterns.pattern(StringUtils.firstNonNull(forcedType.getIncludeTypes(), forcedType.getTypes()));
+            this.sql = forcedType.getSql();
+        }
+
+        private static Class<?> objectType(ForcedTypeObjectType objectType) {
+            if (objectType == null)
+                return null;
+
+            switch (objectType) {
+                case ATTRIBUTE: return AttributeDefinition.class;
+                case COLUMN:    return ColumnDefinition.class;
+                case ELEMENT:   return ArrayDefinition.class;
+                case PARAMETER: return ParameterDefinition.class;
+                case SEQUENCE:  return SequenceDefinition.class;
+                default:        return null;
+            }
+        }
+    }
+}
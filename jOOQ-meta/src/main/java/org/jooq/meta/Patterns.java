@@ -38,25 +38,40 @@
 package org.jooq.meta;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import org.jooq.meta.jaxb.RegexFlag;
 
 /**
  * A cache for {@link Pattern} instances.
+ * <p>
+ * The cache is thread safe, as patterns may be looked up concurrently by code
+ * generation threads.
  *
  * @author Lukas Eder
  */
 public final class Patterns {
 
-    private final Map<String, Pattern> patterns;
-    private List<RegexFlag>            regexFlags;
+    /**
+     * Constructs whose meaning changes when a regular expression is embedded
+     * in another one: quotes, back references, named groups, embedded flags,
+     * which are not scoped to the enclosing group, and embedded flags toggling
+     * {@link Pattern#COMMENTS}.
+     */
+    private static final Pattern                        NOT_COMBINABLE = Pattern.compile("\\\\[Qk1-9]|\\(\\?<|\\(\\?[a-zA-Z-]*[x)]");
+
+    private final Map<String, Pattern>                  patterns;
+    private final Map<List<String>, Optional<Pattern>> combined;
+    private List<RegexFlag>                             regexFlags;
 
     public Patterns() {
-        patterns = new HashMap<>();
+        patterns = new ConcurrentHashMap<>();
+        combined = new ConcurrentHashMap<>();
     }
 
     public final Pattern pattern(String regex) {
@@ -92,15 +107,60 @@ public final class Patterns {
             }
 
             pattern = Pattern.compile(regex, flags);
-            patterns.put(regex, pattern);
+            Pattern previous = patterns.putIfAbsent(regex, pattern);
+
+            if (previous != null)
+                pattern = previous;
         }
 
         return pattern;
     }
 
+    /**
+     * A single pattern that matches a string if any of the argument regular
+     * expressions matches it.
+     * <p>
+     * This returns <code>null</code> if the regular expressions cannot be
+     * combined without changing their meaning, e.g. because they contain
+     * back references, named groups, or quotes. In that case, the regular
+     * expressions have to be matched individually.
+     */
+    public final Pattern combined(String[] regexes) {
+        if (regexes == null)
+            return null;
+
+        return combined.computeIfAbsent(Arrays.asList(regexes), this::combined0).orElse(null);
+    }
+
+    private final Optional<Pattern> combined0(List<String> regexes) {
+        StringBuilder sb = new StringBuilder();
+        int flags = 0;
+
+        for (String regex : regexes) {
+            if (regex == null)
+                continue;
+
+            // Compile each regex individually, both to validate and to fetch the flags
+            flags = pattern(regex).flags();
+
+            if ((flags & Pattern.LITERAL) != 0 || NOT_COMBINABLE.matcher(regex).find())
+                return Optional.empty();
+
+            if (sb.length() > 0)
+                sb.append('|');
+
+            // [#3860] The COMMENTS flag is active by default, and a # comment
+            //         may only be terminated by a newline
+            sb.append("(?:").append(regex).append((flags & Pattern.COMMENTS) != 0 ? "\n)" : ")");
+        }
+
+        return sb.length() == 0 ? Optional.empty() : Optional.of(Pattern.compile(sb.toString(), flags));
+    }
+
     public void setRegexFlags(List<RegexFlag> regexFlags) {
         this.regexFlags = regexFlags;
         this.patterns.clear();
+        this.combined.clear();
     }
 
     public List<RegexFlag> getRegexFlags() {
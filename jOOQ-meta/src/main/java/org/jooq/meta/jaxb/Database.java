@@ -153,6 +153,12 @@ public class Database implements Serializable, XMLAppendable
     protected Integer logSlowQueriesAfterSeconds = 5;
     @XmlElement(defaultValue = "5")
     protected Integer logSlowResultsAfterSeconds = 5;
+    @XmlElement(defaultValue = "1")
+    protected Integer parallelism = 1;
+    @XmlJavaTypeAdapter(StringAdapter.class)
+    protected String snapshotFile;
+    @XmlJavaTypeAdapter(StringAdapter.class)
+    protected String snapshotFingerprint;
     @XmlElementWrapper(name = "properties")
     @XmlElement(name = "property")
     protected List<Property> properties;
@@ -1607,6 +1613,54 @@ public class Database implements Serializable, XMLAppendable
         this.logSlowResultsAfterSeconds = value;
     }
 
+    /**
+     * The number of connections used to fetch the meta data of different object types (e.g. tables, sequences, routines, UDTs) concurrently, or 1 to fetch all meta data sequentially on a single connection. Additional connections are opened from the configured <jdbc/> or DataSource, and must see the same database, so this does not work with private in-memory databases. Meta data is fetched sequentially if the code generator was given a single JDBC connection.
+     * 
+     */
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The number of connections used to fetch the meta data of different object types (e.g. tables, sequences, routines, UDTs) concurrently, or 1 to fetch all meta data sequentially on a single connection. Additional connections are opened from the configured <jdbc/> or DataSource, and must see the same database, so this does not work with private in-memory databases. Meta data is fetched sequentially if the code generator was given a single JDBC connection.
+     * 
+     */
+    public void setParallelism(Integer value) {
+        this.parallelism = value;
+    }
+
+    /**
+     * A file that caches a snapshot of the meta data in the format read by the XMLDatabase. If set, code is generated from the snapshot, which is only refreshed from the database when it is missing, or when the <snapshotFingerprint/> or the reflection relevant parts of the <database/> configuration have changed. Relative paths are resolved against the basedir. If the database contains objects that the XMLDatabase cannot represent, such as UDTs, ARRAYs, domains, enums, table-valued functions, or materialized views, no snapshot is taken, and code is generated from the database directly.
+     * 
+     */
+    public String getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    /**
+     * A file that caches a snapshot of the meta data in the format read by the XMLDatabase. If set, code is generated from the snapshot, which is only refreshed from the database when it is missing, or when the <snapshotFingerprint/> or the reflection relevant parts of the <database/> configuration have changed. Relative paths are resolved against the basedir. If the database contains objects that the XMLDatabase cannot represent, such as UDTs, ARRAYs, domains, enums, table-valued functions, or materialized views, no snapshot is taken, and code is generated from the database directly.
+     * 
+     */
+    public void setSnapshotFile(String value) {
+        this.snapshotFile = value;
+    }
+
+    /**
+     * A fingerprint of the database schema that decides whether the <snapshotFile/> is up to date. This can be a SQL query (starting with SELECT) whose result changes whenever the schema changes, e.g. the maximum last DDL time of all objects in the dictionary views, or a constant, e.g. the version of the latest migration script. If absent, the snapshot is reused until the configuration changes.
+     * 
+     */
+    public String getSnapshotFingerprint() {
+        return snapshotFingerprint;
+    }
+
+    /**
+     * A fingerprint of the database schema that decides whether the <snapshotFile/> is up to date. This can be a SQL query (starting with SELECT) whose result changes whenever the schema changes, e.g. the maximum last DDL time of all objects in the dictionary views, or a constant, e.g. the version of the latest migration script. If absent, the snapshot is reused until the configuration changes.
+     * 
+     */
+    public void setSnapshotFingerprint(String value) {
+        this.snapshotFingerprint = value;
+    }
+
     public List<Property> getProperties() {
         if (properties == null) {
             properties = new ArrayList<Property>();
@@ -2249,6 +2303,33 @@ public class Database implements Serializable, XMLAppendable
         return this;
     }
 
+    /**
+     * The number of connections used to fetch the meta data of different object types (e.g. tables, sequences, routines, UDTs) concurrently, or 1 to fetch all meta data sequentially on a single connection. Additional connections are opened from the configured <jdbc/> or DataSource, and must see the same database, so this does not work with private in-memory databases. Meta data is fetched sequentially if the code generator was given a single JDBC connection.
+     * 
+     */
+    public Database withParallelism(Integer value) {
+        setParallelism(value);
+        return this;
+    }
+
+    /**
+     * A file that caches a snapshot of the meta data in the format read by the XMLDatabase. If set, code is generated from the snapshot, which is only refreshed from the database when it is missing, or when the <snapshotFingerprint/> or the reflection relevant parts of the <database/> configuration have changed. Relative paths are resolved against the basedir. If the database contains objects that the XMLDatabase cannot represent, such as UDTs, ARRAYs, domains, enums, table-valued functions, or materialized views, no snapshot is taken, and code is generated from the database directly.
+     * 
+     */
+    public Database withSnapshotFile(String value) {
+        setSnapshotFile(value);
+        return this;
+    }
+
+    /**
+     * A fingerprint of the database schema that decides whether the <snapshotFile/> is up to date. This can be a SQL query (starting with SELECT) whose result changes whenever the schema changes, e.g. the maximum last DDL time of all objects in the dictionary views, or a constant, e.g. the version of the latest migration script. If absent, the snapshot is reused until the configuration changes.
+     * 
+     */
+    public Database withSnapshotFingerprint(String value) {
+        setSnapshotFingerprint(value);
+        return this;
+    }
+
     public Database withProperties(Property... values) {
         if (values!= null) {
             for (Property value: values) {
@@ -2479,6 +2560,9 @@ public class Database implements Serializable, XMLAppendable
         builder.append("tableValuedFunctions", tableValuedFunctions);
         builder.append("logSlowQueriesAfterSeconds", logSlowQueriesAfterSeconds);
         builder.append("logSlowResultsAfterSeconds", logSlowResultsAfterSeconds);
+        builder.append("parallelism", parallelism);
+        builder.append("snapshotFile", snapshotFile);
+        builder.append("snapshotFingerprint", snapshotFingerprint);
         builder.append("properties", "property", properties);
         builder.append("comments", "comment", comments);
         builder.append("catalogs", "catalog", catalogs);
@@ -2994,6 +3078,33 @@ public class Database implements Serializable, XMLAppendable
                 return false;
             }
         }
+        if (parallelism == null) {
+            if (other.parallelism!= null) {
+                return false;
+            }
+        } else {
+            if (!parallelism.equals(other.parallelism)) {
+                return false;
+            }
+        }
+        if (snapshotFile == null) {
+            if (other.snapshotFile!= null) {
+                return false;
+            }
+        } else {
+            if (!snapshotFile.equals(other.snapshotFile)) {
+                return false;
+            }
+        }
+        if (snapshotFingerprint == null) {
+            if (other.snapshotFingerprint!= null) {
+                return false;
+            }
+        } else {
+            if (!snapshotFingerprint.equals(other.snapshotFingerprint)) {
+                return false;
+            }
+        }
         if (properties == null) {
             if (other.properties!= null) {
                 return false;
@@ -3127,6 +3238,9 @@ public class Database implements Serializable, XMLAppendable
         result = ((prime*result)+((tableValuedFunctions == null)? 0 :tableValuedFunctions.hashCode()));
         result = ((prime*result)+((logSlowQueriesAfterSeconds == null)? 0 :logSlowQueriesAfterSeconds.hashCode()));
         result = ((prime*result)+((logSlowResultsAfterSeconds == null)? 0 :logSlowResultsAfterSeconds.hashCode()));
+        result = ((prime*result)+((parallelism == null)? 0 :parallelism.hashCode()));
+        result = ((prime*result)+((snapshotFile == null)? 0 :snapshotFile.hashCode()));
+        result = ((prime*result)+((snapshotFingerprint == null)? 0 :snapshotFingerprint.hashCode()));
         result = ((prime*result)+((properties == null)? 0 :properties.hashCode()));
         result = ((prime*result)+((comments == null)? 0 :comments.hashCode()));
         result = ((prime*result)+((catalogs == null)? 0 :catalogs.hashCode()));
@@ -107,6 +107,8 @@ public class Generate implements Serializable, XMLAppendable
     @XmlElement(defaultValue = "true")
     protected Boolean serializablePojos = true;
     @XmlElement(defaultValue = "false")
+    protected Boolean pojosRecordMappers = false;
+    @XmlElement(defaultValue = "false")
     protected Boolean interfaces = false;
     @XmlElement(defaultValue = "false")
     protected Boolean immutableInterfaces = false;
@@ -193,6 +195,10 @@ public class Generate implements Serializable, XMLAppendable
     protected GeneratedSerialVersionUID generatedSerialVersionUID = GeneratedSerialVersionUID.CONSTANT;
     @XmlElement(defaultValue = "500")
     protected Integer maxMembersPerInitialiser = 500;
+    @XmlElement(defaultValue = "1")
+    protected Integer parallelism = 1;
+    @XmlElement(defaultValue = "false")
+    protected Boolean incremental = false;
     @XmlElement(defaultValue = "")
     @XmlJavaTypeAdapter(StringAdapter.class)
     protected String fullyQualifiedTypes = "";
@@ -1076,6 +1082,32 @@ public class Generate implements Serializable, XMLAppendable
         this.serializablePojos = value;
     }
 
+    /**
+     * Generate a {@link org.jooq.RecordMapperProvider} and {@link org.jooq.RecordUnmapperProvider} per schema, which maps table records to their generated POJOs and back by column index, without reflection.
+     * <p>
+     * This flag is only supported for Java, and only for tables without embeddables. Other types are delegated to the default providers.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isPojosRecordMappers() {
+        return pojosRecordMappers;
+    }
+
+    /**
+     * Sets the value of the pojosRecordMappers property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setPojosRecordMappers(Boolean value) {
+        this.pojosRecordMappers = value;
+    }
+
     /**
      * Generated interfaces to be implemented by records and/or POJOs.
      * 
@@ -2103,6 +2135,46 @@ public class Generate implements Serializable, XMLAppendable
         this.maxMembersPerInitialiser = value;
     }
 
+    /**
+     * The number of threads used to generate per-table files such as tables, records, POJOs, DAOs and interfaces, or 1 to generate all files sequentially. The meta data of all tables is loaded before any of these files is generated. When this is greater than 1, custom generator strategies and generator subclasses are called concurrently for all per-table files, including table classes, and must be thread safe.
+     * 
+     */
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The number of threads used to generate per-table files such as tables, records, POJOs, DAOs and interfaces, or 1 to generate all files sequentially. The meta data of all tables is loaded before any of these files is generated. When this is greater than 1, custom generator strategies and generator subclasses are called concurrently for all per-table files, including table classes, and must be thread safe.
+     * 
+     */
+    public void setParallelism(Integer value) {
+        this.parallelism = value;
+    }
+
+    /**
+     * Whether to skip regenerating tables, records, POJOs, interfaces and DAOs whose table meta data and code generation configuration have not changed since the previous run. Content hashes of previously generated files are kept in a manifest file in the target package directory. Changes to the code of custom generator strategies and generator subclasses are not detected.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Sets the value of the incremental property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setIncremental(Boolean value) {
+        this.incremental = value;
+    }
+
     /**
      * A regular expression matching all the types in generated code that should be fully qualified.
      * <p>
@@ -2452,6 +2524,11 @@ public class Generate implements Serializable, XMLAppendable
         return this;
     }
 
+    public Generate withPojosRecordMappers(Boolean value) {
+        setPojosRecordMappers(value);
+        return this;
+    }
+
     public Generate withInterfaces(Boolean value) {
         setInterfaces(value);
         return this;
@@ -2679,6 +2756,20 @@ public class Generate implements Serializable, XMLAppendable
         return this;
     }
 
+    /**
+     * The number of threads used to generate per-table files such as tables, records, POJOs, DAOs and interfaces, or 1 to generate all files sequentially. The meta data of all tables is loaded before any of these files is generated. When this is greater than 1, custom generator strategies and generator subclasses are called concurrently for all per-table files, including table classes, and must be thread safe.
+     * 
+     */
+    public Generate withParallelism(Integer value) {
+        setParallelism(value);
+        return this;
+    }
+
+    public Generate withIncremental(Boolean value) {
+        setIncremental(value);
+        return this;
+    }
+
     /**
      * A regular expression matching all the types in generated code that should be fully qualified.
      * <p>
@@ -2773,6 +2864,7 @@ public class Generate implements Serializable, XMLAppendable
         builder.append("pojosAsKotlinDataClasses", pojosAsKotlinDataClasses);
         builder.append("immutablePojos", immutablePojos);
         builder.append("serializablePojos", serializablePojos);
+        builder.append("pojosRecordMappers", pojosRecordMappers);
         builder.append("interfaces", interfaces);
         builder.append("immutableInterfaces", immutableInterfaces);
         builder.append("serializableInterfaces", serializableInterfaces);
@@ -2816,6 +2908,8 @@ public class Generate implements Serializable, XMLAppendable
         builder.append("varargSetters", varargSetters);
         builder.append("generatedSerialVersionUID", generatedSerialVersionUID);
         builder.append("maxMembersPerInitialiser", maxMembersPerInitialiser);
+        builder.append("parallelism", parallelism);
+        builder.append("incremental", incremental);
         builder.append("fullyQualifiedTypes", fullyQualifiedTypes);
         builder.append("emptyCatalogs", emptyCatalogs);
         builder.append("emptySchemas", emptySchemas);
@@ -3177,6 +3271,15 @@ public class Generate implements Serializable, XMLAppendable
                 return false;
             }
         }
+        if (pojosRecordMappers == null) {
+            if (other.pojosRecordMappers!= null) {
+                return false;
+            }
+        } else {
+            if (!pojosRecordMappers.equals(other.pojosRecordMappers)) {
+                return false;
+            }
+        }
         if (interfaces == null) {
             if (other.interfaces!= null) {
                 return false;
@@ -3564,6 +3667,24 @@ public class Generate implements Serializable, XMLAppendable
                 return false;
             }
         }
+        if (parallelism == null) {
+            if (other.parallelism!= null) {
+                return false;
+            }
+        } else {
+            if (!parallelism.equals(other.parallelism)) {
+                return false;
+            }
+        }
+        if (incremental == null) {
+            if (other.incremental!= null) {
+                return false;
+            }
+        } else {
+            if (!incremental.equals(other.incremental)) {
+                return false;
+            }
+        }
         if (fullyQualifiedTypes == null) {
             if (other.fullyQualifiedTypes!= null) {
                 return false;
@@ -3671,6 +3792,7 @@ public class Generate implements Serializable, XMLAppendable
         result = ((prime*result)+((pojosAsKotlinDataClasses == null)? 0 :pojosAsKotlinDataClasses.hashCode()));
         result = ((prime*result)+((immutablePojos == null)? 0 :immutablePojos.hashCode()));
         result = ((prime*result)+((serializablePojos == null)? 0 :serializablePojos.hashCode()));
+        result = ((prime*result)+((pojosRecordMappers == null)? 0 :pojosRecordMappers.hashCode()));
         result = ((prime*result)+((interfaces == null)? 0 :interfaces.hashCode()));
         result = ((prime*result)+((immutableInterfaces == null)? 0 :immutableInterfaces.hashCode()));
         result = ((prime*result)+((serializableInterfaces == null)? 0 :serializableInterfaces.hashCode()));
@@ -3714,6 +3836,8 @@ public class Generate implements Serializable, XMLAppendable
         result = ((prime*result)+((varargSetters == null)? 0 :varargSetters.hashCode()));
         result = ((prime*result)+((generatedSerialVersionUID == null)? 0 :generatedSerialVersionUID.hashCode()));
         result = ((prime*result)+((maxMembersPerInitialiser == null)? 0 :maxMembersPerInitialiser.hashCode()));
+        result = ((prime*result)+((parallelism == null)? 0 :parallelism.hashCode()));
+        result = ((prime*result)+((incremental == null)? 0 :incremental.hashCode()));
         result = ((prime*result)+((fullyQualifiedTypes == null)? 0 :fullyQualifiedTypes.hashCode()));
         result = ((prime*result)+((emptyCatalogs == null)? 0 :emptyCatalogs.hashCode()));
         result = ((prime*result)+((emptySchemas == null)? 0 :emptySchemas.hashCode()));
@@ -37,6 +37,10 @@
  */
 package org.jooq;
 
+import java.io.Reader;
+import java.util.stream.Stream;
+
+import org.jooq.conf.Settings;
 import org.jooq.impl.ParserException;
 
 import org.jetbrains.annotations.NotNull;
@@ -72,6 +76,28 @@ public interface Parser {
     @PlainSQL
     Queries parse(String sql, Object... bindings) throws ParserException;
 
+    /**
+     * Parse a SQL script to a lazy stream of queries.
+     * <p>
+     * Unlike {@link #parse(String)}, this does not require the entire script
+     * to be held in memory. The script is split into individual statements
+     * using {@link Settings#getDelimiter()}, or <code>DELIMITER</code> and
+     * <code>GO</code> commands contained in the script, ignoring delimiters in
+     * string literals, quoted identifiers, and comments, as well as in regions
+     * excluded by {@link Settings#isParseIgnoreComments()}. Each statement is
+     * parsed when the stream is consumed.
+     * <p>
+     * The caller is responsible for closing the {@link Reader}.
+     *
+     * @param reader The SQL script
+     * @throws ParserException If the SQL script could not be parsed. This is
+     *             thrown lazily, when the stream is consumed.
+     */
+    @NotNull
+    @Support
+    @PlainSQL
+    Stream<Query> parseStream(Reader reader) throws ParserException;
+
     /**
      * Parse a SQL string to a query.
      *
@@ -53,6 +53,8 @@ public class Settings
     protected RenderNameStyle renderNameStyle = RenderNameStyle.QUOTED;
     @XmlElement(defaultValue = ":")
     protected String renderNamedParamPrefix = ":";
+    @XmlElement(defaultValue = "false")
+    protected Boolean namedParamDeduplication = false;
     @XmlElement(defaultValue = "AS_IS")
     @XmlSchemaType(name = "string")
     protected RenderKeywordCase renderKeywordCase = RenderKeywordCase.AS_IS;
@@ -120,6 +122,8 @@ public class Settings
     protected StatementType statementType = StatementType.PREPARED_STATEMENT;
     @XmlElement(defaultValue = "0")
     protected Integer inlineThreshold = 0;
+    @XmlElement(defaultValue = "false")
+    protected Boolean splitStatementsAtBindValueLimit = false;
     @XmlElement(defaultValue = "DEFAULT")
     @XmlSchemaType(name = "string")
     protected InvocationOrder transactionListenerStartInvocationOrder = InvocationOrder.DEFAULT;
@@ -175,6 +179,12 @@ public class Settings
     protected Boolean cacheRecordMappers = true;
     @XmlElement(defaultValue = "true")
     protected Boolean cachePreparedStatementInLoader = true;
+    @XmlElement(defaultValue = "true")
+    protected Boolean cacheParsingConnection = true;
+    @XmlElement(defaultValue = "8192")
+    protected Integer cacheParsingConnectionLRUCacheSize = 8192;
+    @XmlElement(defaultValue = "false")
+    protected Boolean cacheParsingConnectionNormalizeLiterals = false;
     @XmlElement(defaultValue = "THROW_ALL")
     @XmlSchemaType(name = "string")
     protected ThrowExceptions throwExceptions = ThrowExceptions.THROW_ALL;
@@ -207,12 +217,16 @@ public class Settings
     protected Integer fetchSize = 0;
     @XmlElement(defaultValue = "2147483647")
     protected Integer batchSize = 2147483647;
+    @XmlElement(defaultValue = "0")
+    protected Integer batchMultiRowInsertSize = 0;
     @XmlElement(defaultValue = "true")
     protected Boolean debugInfoOnStackTrace = true;
     @XmlElement(defaultValue = "false")
     protected Boolean inListPadding = false;
     @XmlElement(defaultValue = "2")
     protected Integer inListPadBase = 2;
+    @XmlElement(defaultValue = "false")
+    protected Boolean inListArrayBinding = false;
     @XmlElement(defaultValue = ";")
     protected String delimiter = ";";
     @XmlElement(defaultValue = "false")
@@ -277,6 +291,10 @@ public class Settings
     protected String parseIgnoreCommentStart = "[jooq ignore start]";
     @XmlElement(defaultValue = "[jooq ignore stop]")
     protected String parseIgnoreCommentStop = "[jooq ignore stop]";
+    @XmlElement(defaultValue = "false")
+    protected Boolean parseScriptsInParallel = false;
+    @XmlElement(defaultValue = "1000")
+    protected Integer parseScriptsInParallelThreshold = 1000;
     @XmlElement(defaultValue = "true")
     protected Boolean parseMetaDefaultExpressions = true;
     @XmlElement(defaultValue = "true")
@@ -473,6 +491,36 @@ public class Settings
         this.renderNamedParamPrefix = value;
     }
 
+    /**
+     * Whether identical, unnamed bind values should share a single named parameter.
+     * <p>
+     * When rendering SQL with {@code ParamType#NAMED}, identical unnamed bind values (e.g. the same tenant ID
+     * repeated in several subqueries) are rendered as the same indexed parameter, such as <code>$1</code> or
+     * <code>:1</code>, and collected only once by {@code Query#getParams()}. This reduces the bind payload when
+     * executing such SQL with clients that support parameter reuse. It has no effect on queries executed by
+     * jOOQ via JDBC, which binds each parameter occurrence separately.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isNamedParamDeduplication() {
+        return namedParamDeduplication;
+    }
+
+    /**
+     * Sets the value of the namedParamDeduplication property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setNamedParamDeduplication(Boolean value) {
+        this.namedParamDeduplication = value;
+    }
+
     /**
      * Whether the case of {@link org.jooq.Keyword} references should be modified in any way.
      * 
@@ -1122,6 +1170,33 @@ public class Settings
         this.inlineThreshold = value;
     }
 
+    /**
+     * Whether statements exceeding the bind value limit of the dialect (or the <code>inlineThreshold</code>) should be split into several statements that are executed sequentially, rather than having their bind values inlined.
+     * <p>
+     * This applies to multi row <code>INSERT .. VALUES</code> statements without a <code>RETURNING</code> clause, and to {@link org.jooq.DAO} methods
+     * that accept collections of values. The split statements are not executed atomically, unless a transaction is used.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isSplitStatementsAtBindValueLimit() {
+        return splitStatementsAtBindValueLimit;
+    }
+
+    /**
+     * Sets the value of the splitStatementsAtBindValueLimit property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setSplitStatementsAtBindValueLimit(Boolean value) {
+        this.splitStatementsAtBindValueLimit = value;
+    }
+
     /**
      * The order of invocation for [action]start() methods registered {@link org.jooq.TransactionListener}s.
      * 
@@ -1568,6 +1643,70 @@ public class Settings
         this.cachePreparedStatementInLoader = value;
     }
 
+    /**
+     * Whether the parsing connection should cache input SQL to translated SQL mappings.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCacheParsingConnection() {
+        return cacheParsingConnection;
+    }
+
+    /**
+     * Sets the value of the cacheParsingConnection property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCacheParsingConnection(Boolean value) {
+        this.cacheParsingConnection = value;
+    }
+
+    /**
+     * The maximum number of input SQL to translated SQL mappings that the parsing connection should cache.
+     * 
+     */
+    public Integer getCacheParsingConnectionLRUCacheSize() {
+        return cacheParsingConnectionLRUCacheSize;
+    }
+
+    /**
+     * The maximum number of input SQL to translated SQL mappings that the parsing connection should cache.
+     * 
+     */
+    public void setCacheParsingConnectionLRUCacheSize(Integer value) {
+        this.cacheParsingConnectionLRUCacheSize = value;
+    }
+
+    /**
+     * Whether the parsing connection should replace literals by bind variable markers prior to translation, in order to get cache hits for SQL that differs only in literals. Literals are re-inserted verbatim into the cached translation.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCacheParsingConnectionNormalizeLiterals() {
+        return cacheParsingConnectionNormalizeLiterals;
+    }
+
+    /**
+     * Sets the value of the cacheParsingConnectionNormalizeLiterals property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCacheParsingConnectionNormalizeLiterals(Boolean value) {
+        this.cacheParsingConnectionNormalizeLiterals = value;
+    }
+
     /**
      * A strategy defining how exceptions from the database / JDBC driver should be propagated
      * 
@@ -1885,6 +2024,22 @@ public class Settings
         this.batchSize = value;
     }
 
+    /**
+     * The maximum number of rows per multi-row INSERT statement that single-row INSERT statements are rewritten to in {@link org.jooq.Batch} executions, further limited by the number of bind values supported by the dialect. A value of 0 or less turns off the rewriting.
+     * 
+     */
+    public Integer getBatchMultiRowInsertSize() {
+        return batchMultiRowInsertSize;
+    }
+
+    /**
+     * The maximum number of rows per multi-row INSERT statement that single-row INSERT statements are rewritten to in {@link org.jooq.Batch} executions, further limited by the number of bind values supported by the dialect. A value of 0 or less turns off the rewriting.
+     * 
+     */
+    public void setBatchMultiRowInsertSize(Integer value) {
+        this.batchMultiRowInsertSize = value;
+    }
+
     /**
      * [#5570] Whether exception stack traces should be enhanced with additional debug information.
      * 
@@ -1949,6 +2104,30 @@ public class Settings
         this.inListPadBase = value;
     }
 
+    /**
+     * Whether IN lists of bind values in IN predicates should be bound as a single array in dialects that support it, rendering <code>= ANY(?)</code> or <code>&lt;&gt; ALL(?)</code>.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isInListArrayBinding() {
+        return inListArrayBinding;
+    }
+
+    /**
+     * Sets the value of the inListArrayBinding property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setInListArrayBinding(Boolean value) {
+        this.inListArrayBinding = value;
+    }
+
     /**
      * [#5826] The delimiter character to be used to delimit statements in batches.
      * 
@@ -2453,6 +2632,46 @@ public class Settings
         this.parseIgnoreCommentStop = value;
     }
 
+    /**
+     * Whether {@link org.jooq.Parser#parse(String)} should split scripts into statements using a lightweight lexer, and parse the statements in parallel on the {@link org.jooq.Configuration#executorProvider()}. This is ignored when bind values are provided, or when meta lookups are active.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isParseScriptsInParallel() {
+        return parseScriptsInParallel;
+    }
+
+    /**
+     * Sets the value of the parseScriptsInParallel property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setParseScriptsInParallel(Boolean value) {
+        this.parseScriptsInParallel = value;
+    }
+
+    /**
+     * The minimum number of statements a script must contain for {@link #isParseScriptsInParallel()} to take effect.
+     * 
+     */
+    public Integer getParseScriptsInParallelThreshold() {
+        return parseScriptsInParallelThreshold;
+    }
+
+    /**
+     * The minimum number of statements a script must contain for {@link #isParseScriptsInParallel()} to take effect.
+     * 
+     */
+    public void setParseScriptsInParallelThreshold(Integer value) {
+        this.parseScriptsInParallelThreshold = value;
+    }
+
     /**
      * [#8469] Whether to parse default expressions retrieved from {@link java.sql.DatabaseMetaData}.
      * 
@@ -2612,6 +2831,11 @@ public class Settings
         return this;
     }
 
+    public Settings withNamedParamDeduplication(Boolean value) {
+        setNamedParamDeduplication(value);
+        return this;
+    }
+
     /**
      * Whether the case of {@link org.jooq.Keyword} references should be modified in any way.
      * 
@@ -2837,6 +3061,11 @@ public class Settings
         return this;
     }
 
+    public Settings withSplitStatementsAtBindValueLimit(Boolean value) {
+        setSplitStatementsAtBindValueLimit(value);
+        return this;
+    }
+
     /**
      * The order of invocation for [action]start() methods registered {@link org.jooq.TransactionListener}s.
      * 
@@ -2991,6 +3220,25 @@ public class Settings
         return this;
     }
 
+    public Settings withCacheParsingConnection(Boolean value) {
+        setCacheParsingConnection(value);
+        return this;
+    }
+
+    /**
+     * The maximum number of input SQL to translated SQL mappings that the parsing connection should cache.
+     * 
+     */
+    public Settings withCacheParsingConnectionLRUCacheSize(Integer value) {
+        setCacheParsingConnectionLRUCacheSize(value);
+        return this;
+    }
+
+    public Settings withCacheParsingConnectionNormalizeLiterals(Boolean value) {
+        setCacheParsingConnectionNormalizeLiterals(value);
+        return this;
+    }
+
     /**
      * A strategy defining how exceptions from the database / JDBC driver should be propagated
      * 
@@ -3098,6 +3346,15 @@ public class Settings
         return this;
     }
 
+    /**
+     * The maximum number of rows per multi-row INSERT statement that single-row INSERT statements are rewritten to in {@link org.jooq.Batch} executions, further limited by the number of bind values supported by the dialect. A value of 0 or less turns off the rewriting.
+     * 
+     */
+    public Settings withBatchMultiRowInsertSize(Integer value) {
+        setBatchMultiRowInsertSize(value);
+        return this;
+    }
+
     public Settings withDebugInfoOnStackTrace(Boolean value) {
         setDebugInfoOnStackTrace(value);
         return this;
@@ -3117,6 +3374,11 @@ public class Settings
         return this;
     }
 
+    public Settings withInListArrayBinding(Boolean value) {
+        setInListArrayBinding(value);
+        return this;
+    }
+
     /**
      * [#5826] The delimiter character to be used to delimit statements in batches.
      * 
@@ -3307,6 +3569,20 @@ public class Settings
         return this;
     }
 
+    public Settings withParseScriptsInParallel(Boolean value) {
+        setParseScriptsInParallel(value);
+        return this;
+    }
+
+    /**
+     * The minimum number of statements a script must contain for {@link #isParseScriptsInParallel()} to take effect.
+     * 
+     */
+    public Settings withParseScriptsInParallelThreshold(Integer value) {
+        setParseScriptsInParallelThreshold(value);
+        return this;
+    }
+
     public Settings withParseMetaDefaultExpressions(Boolean value) {
         setParseMetaDefaultExpressions(value);
         return this;
@@ -3389,6 +3665,7 @@ public class Settings
         builder.append("renderNameCase", renderNameCase);
         builder.append("renderNameStyle", renderNameStyle);
         builder.append("renderNamedParamPrefix", renderNamedParamPrefix);
+        builder.append("namedParamDeduplication", namedParamDeduplication);
         builder.append("renderKeywordCase", renderKeywordCase);
         builder.append("renderKeywordStyle", renderKeywordStyle);
         builder.append("renderLocale", renderLocale);
@@ -3416,6 +3693,7 @@ public class Settings
         builder.append("paramCastMode", paramCastMode);
         builder.append("statementType", statementType);
         builder.append("inlineThreshold", inlineThreshold);
+        builder.append("splitStatementsAtBindValueLimit", splitStatementsAtBindValueLimit);
         builder.append("transactionListenerStartInvocationOrder", transactionListenerStartInvocationOrder);
         builder.append("transactionListenerEndInvocationOrder", transactionListenerEndInvocationOrder);
         builder.append("migrationListenerStartInvocationOrder", migrationListenerStartInvocationOrder);
@@ -3438,6 +3716,9 @@ public class Settings
         builder.append("reflectionCaching", reflectionCaching);
         builder.append("cacheRecordMappers", cacheRecordMappers);
         builder.append("cachePreparedStatementInLoader", cachePreparedStatementInLoader);
+        builder.append("cacheParsingConnection", cacheParsingConnection);
+        builder.append("cacheParsingConnectionLRUCacheSize", cacheParsingConnectionLRUCacheSize);
+        builder.append("cacheParsingConnectionNormalizeLiterals", cacheParsingConnectionNormalizeLiterals);
         builder.append("throwExceptions", throwExceptions);
         builder.append("fetchWarnings", fetchWarnings);
         builder.append("fetchServerOutputSize", fetchServerOutputSize);
@@ -3453,9 +3734,11 @@ public class Settings
         builder.append("maxRows", maxRows);
         builder.append("fetchSize", fetchSize);
         builder.append("batchSize", batchSize);
+        builder.append("batchMultiRowInsertSize", batchMultiRowInsertSize);
         builder.append("debugInfoOnStackTrace", debugInfoOnStackTrace);
         builder.append("inListPadding", inListPadding);
         builder.append("inListPadBase", inListPadBase);
+        builder.append("inListArrayBinding", inListArrayBinding);
         builder.append("delimiter", delimiter);
         builder.append("emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly", emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly);
         builder.append("executeUpdateWithoutWhere", executeUpdateWithoutWhere);
@@ -3482,6 +3765,8 @@ public class Settings
         builder.append("parseIgnoreComments", parseIgnoreComments);
         builder.append("parseIgnoreCommentStart", parseIgnoreCommentStart);
         builder.append("parseIgnoreCommentStop", parseIgnoreCommentStop);
+        builder.append("parseScriptsInParallel", parseScriptsInParallel);
+        builder.append("parseScriptsInParallelThreshold", parseScriptsInParallelThreshold);
         builder.append("parseMetaDefaultExpressions", parseMetaDefaultExpressions);
         builder.append("applyWorkaroundFor7962", applyWorkaroundFor7962);
         builder.append("interpreterSearchPath", "schema", interpreterSearchPath);
@@ -3571,6 +3856,15 @@ public class Settings
                 return false;
             }
         }
+        if (namedParamDeduplication == null) {
+            if (other.namedParamDeduplication!= null) {
+                return false;
+            }
+        } else {
+            if (!namedParamDeduplication.equals(other.namedParamDeduplication)) {
+                return false;
+            }
+        }
         if (renderKeywordCase == null) {
             if (other.renderKeywordCase!= null) {
                 return false;
@@ -3814,6 +4108,15 @@ public class Settings
                 return false;
             }
         }
+        if (splitStatementsAtBindValueLimit == null) {
+            if (other.splitStatementsAtBindValueLimit!= null) {
+                return false;
+            }
+        } else {
+            if (!splitStatementsAtBindValueLimit.equals(other.splitStatementsAtBindValueLimit)) {
+                return false;
+            }
+        }
         if (transactionListenerStartInvocationOrder == null) {
             if (other.transactionListenerStartInvocationOrder!= null) {
                 return false;
@@ -4012,6 +4315,33 @@ public class Settings
                 return false;
             }
         }
+        if (cacheParsingConnection == null) {
+            if (other.cacheParsingConnection!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheParsingConnection.equals(other.cacheParsingConnection)) {
+                return false;
+            }
+        }
+        if (cacheParsingConnectionLRUCacheSize == null) {
+            if (other.cacheParsingConnectionLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheParsingConnectionLRUCacheSize.equals(other.cacheParsingConnectionLRUCacheSize)) {
+                return false;
+            }
+        }
+        if (cacheParsingConnectionNormalizeLiterals == null) {
+            if (other.cacheParsingConnectionNormalizeLiterals!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheParsingConnectionNormalizeLiterals.equals(other.cacheParsingConnectionNormalizeLiterals)) {
+                return false;
+            }
+        }
         if (throwExceptions == null) {
             if (other.throwExceptions!= null) {
                 return false;
@@ -4147,6 +4477,15 @@ public class Settings
                 return false;
             }
         }
+        if (batchMultiRowInsertSize == null) {
+            if (other.batchMultiRowInsertSize!= null) {
+                return false;
+            }
+        } else {
+            if (!batchMultiRowInsertSize.equals(other.batchMultiRowInsertSize)) {
+                return false;
+            }
+        }
         if (debugInfoOnStackTrace == null) {
             if (other.debugInfoOnStackTrace!= null) {
                 return false;
@@ -4174,6 +4513,15 @@ public class Settings
                 return false;
             }
         }
+        if (inListArrayBinding == null) {
+            if (other.inListArrayBinding!= null) {
+                return false;
+            }
+        } else {
+            if (!inListArrayBinding.equals(other.inListArrayBinding)) {
+                return false;
+            }
+        }
         if (delimiter == null) {
             if (other.delimiter!= null) {
                 return false;
@@ -4408,6 +4756,24 @@ public class Settings
                 return false;
             }
         }
+        if (parseScriptsInParallel == null) {
+            if (other.parseScriptsInParallel!= null) {
+                return false;
+            }
+        } else {
+            if (!parseScriptsInParallel.equals(other.parseScriptsInParallel)) {
+                return false;
+            }
+        }
+        if (parseScriptsInParallelThreshold == null) {
+            if (other.parseScriptsInParallelThreshold!= null) {
+                return false;
+            }
+        } else {
+            if (!parseScriptsInParallelThreshold.equals(other.parseScriptsInParallelThreshold)) {
+                return false;
+            }
+        }
         if (parseMetaDefaultExpressions == null) {
             if (other.parseMetaDefaultExpressions!= null) {
                 return false;
@@ -4467,6 +4833,7 @@ public class Settings
         result = ((prime*result)+((renderNameCase == null)? 0 :renderNameCase.hashCode()));
         result = ((prime*result)+((renderNameStyle == null)? 0 :renderNameStyle.hashCode()));
         result = ((prime*result)+((renderNamedParamPrefix == null)? 0 :renderNamedParamPrefix.hashCode()));
+        result = ((prime*result)+((namedParamDeduplication == null)? 0 :namedParamDeduplication.hashCode()));
         result = ((prime*result)+((renderKeywordCase == null)? 0 :renderKeywordCase.hashCode()));
         result = ((prime*result)+((renderKeywordStyle == null)? 0 :renderKeywordStyle.hashCode()));
         result = ((prime*result)+((renderLocale == null)? 0 :renderLocale.hashCode()));
@@ -4494,6 +4861,7 @@ public class Settings
         result = ((prime*result)+((paramCastMode == null)? 0 :paramCastMode.hashCode()));
         result = ((prime*result)+((statementType == null)? 0 :statementType.hashCode()));
         result = ((prime*result)+((inlineThreshold == null)? 0 :inlineThreshold.hashCode()));
+        result = ((prime*result)+((splitStatementsAtBindValueLimit == null)? 0 :splitStatementsAtBindValueLimit.hashCode()));
         result = ((prime*result)+((transactionListenerStartInvocationOrder == null)? 0 :transactionListenerStartInvocationOrder.hashCode()));
         result = ((prime*result)+((transactionListenerEndInvocationOrder == null)? 0 :transactionListenerEndInvocationOrder.hashCode()));
         result = ((prime*result)+((migrationListenerStartInvocationOrder == null)? 0 :migrationListenerStartInvocationOrder.hashCode()));
@@ -4516,6 +4884,9 @@ public class Settings
         result = ((prime*result)+((reflectionCaching == null)? 0 :reflectionCaching.hashCode()));
         result = ((prime*result)+((cacheRecordMappers == null)? 0 :cacheRecordMappers.hashCode()));
         result = ((prime*result)+((cachePreparedStatementInLoader == null)? 0 :cachePreparedStatementInLoader.hashCode()));
+        result = ((prime*result)+((cacheParsingConnection == null)? 0 :cacheParsingConnection.hashCode()));
+        result = ((prime*result)+((cacheParsingConnectionLRUCacheSize == null)? 0 :cacheParsingConnectionLRUCacheSize.hashCode()));
+        result = ((prime*result)+((cacheParsingConnectionNormalizeLiterals == null)? 0 :cacheParsingConnectionNormalizeLiterals.hashCode()));
         result = ((prime*result)+((throwExceptions == null)? 0 :throwExceptions.hashCode()));
         result = ((prime*result)+((fetchWarnings == null)? 0 :fetchWarnings.hashCode()));
         result = ((prime*result)+((fetchServerOutputSize == null)? 0 :fetchServerOutputSize.hashCode()));
@@ -4531,9 +4902,11 @@ public class Settings
         result = ((prime*result)+((maxRows == null)? 0 :maxRows.hashCode()));
         result = ((prime*result)+((fetchSize == null)? 0 :fetchSize.hashCode()));
         result = ((prime*result)+((batchSize == null)? 0 :batchSize.hashCode()));
+        result = ((prime*result)+((batchMultiRowInsertSize == null)? 0 :batchMultiRowInsertSize.hashCode()));
         result = ((prime*result)+((debugInfoOnStackTrace == null)? 0 :debugInfoOnStackTrace.hashCode()));
         result = ((prime*result)+((inListPadding == null)? 0 :inListPadding.hashCode()));
         result = ((prime*result)+((inListPadBase == null)? 0 :inListPadBase.hashCode()));
+        result = ((prime*result)+((inListArrayBinding == null)? 0 :inListArrayBinding.hashCode()));
         result = ((prime*result)+((delimiter == null)? 0 :delimiter.hashCode()));
         result = ((prime*result)+((emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly == null)? 0 :emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly.hashCode()));
         result = ((prime*result)+((executeUpdateWithoutWhere == null)? 0 :executeUpdateWithoutWhere.hashCode()));
@@ -4560,6 +4933,8 @@ public class Settings
         result = ((prime*result)+((parseIgnoreComments == null)? 0 :parseIgnoreComments.hashCode()));
         result = ((prime*result)+((parseIgnoreCommentStart == null)? 0 :parseIgnoreCommentStart.hashCode()));
         result = ((prime*result)+((parseIgnoreCommentStop == null)? 0 :parseIgnoreCommentStop.hashCode()));
+        result = ((prime*result)+((parseScriptsInParallel == null)? 0 :parseScriptsInParallel.hashCode()));
+        result = ((prime*result)+((parseScriptsInParallelThreshold == null)? 0 :parseScriptsInParallelThreshold.hashCode()));
         result = ((prime*result)+((parseMetaDefaultExpressions == null)? 0 :parseMetaDefaultExpressions.hashCode()));
         result = ((prime*result)+((applyWorkaroundFor7962 == null)? 0 :applyWorkaroundFor7962 .hashCode()));
         result = ((prime*result)+((interpreterSearchPath == null)? 0 :interpreterSearchPath.hashCode()));
@@ -59,6 +59,7 @@ import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -75,6 +76,7 @@ import org.jooq.DSLContext;
 import org.jooq.ForeignKey;
 import org.jooq.JoinType;
 // ...
+import org.jooq.Param;
 import org.jooq.QueryPart;
 import org.jooq.QueryPartInternal;
 import org.jooq.RenderContext;
@@ -121,6 +123,7 @@ abstract class AbstractContext<C extends Context<C>> extends AbstractScope imple
     int                                            stringLiteral;
     String                                         stringLiteralEscapedApos    = "'";
     int                                            index;
+    Map<Object, Integer>                           paramIndexes;
     int                                            scopeMarking;
     final ScopeStack<QueryPart, ScopeStackElement> scopeStack;
     int                                            skipUpdateCounts;
@@ -762,6 +765,30 @@ abstract class AbstractContext<C extends Context<C>> extends AbstractScope imple
         return index + 1;
     }
 
+    /**
+     * Get the next bind index for a {@link Param}, or the bind index of an
+     * identical, unnamed {@link Param} that has been indexed before, if
+     * bind values are deduplicated.
+     */
+    final int nextIndex(Param<?> param, boolean deduplicate) {
+        if (!deduplicate || param.isInline() || !StringUtils.isBlank(param.getParamName()))
+            return nextIndex();
+
+        Object value = param.getValue();
+
+        // Arrays don't implement equals() and are rarely repeated
+        if (value != null && value.getClass().isArray())
+            return nextIndex();
+
+        if (paramIndexes == null)
+            paramIndexes = new HashMap<>();
+
+        return paramIndexes.computeIfAbsent(
+            Arrays.asList(param.getDataType(), param.getBinding().getClass(), param.getConverter().getClass(), value),
+            k -> nextIndex()
+        );
+    }
+
     @Override
     public final int skipUpdateCounts() {
         return skipUpdateCounts;
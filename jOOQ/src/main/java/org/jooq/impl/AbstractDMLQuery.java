@@ -181,7 +181,7 @@ abstract class AbstractDMLQuery<R extends Record> extends AbstractRowCountQuery
 
 
 
-    private final WithImpl                       with;
+    final WithImpl                               with;
     private final Table<R>                       table;
     final SelectFieldList<SelectFieldOrAsterisk> returning;
     final List<Field<?>>                         returningResolvedAsterisks;
@@ -599,7 +599,7 @@ abstract class AbstractMeta extends AbstractScope implements Meta, Serializable
     }
 
     @Override
-    public final Meta apply(Queries migration) {
+    public /* non-final */ Meta apply(Queries migration) {
         return dsl().meta(ddl().concat(migration).queries());
     }
 
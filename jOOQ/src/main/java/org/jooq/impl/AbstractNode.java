@@ -39,6 +39,8 @@ package org.jooq.impl;
 
 import static org.jooq.tools.StringUtils.defaultIfNull;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -88,8 +90,8 @@ abstract class AbstractNode<N extends Node<N>> implements Node<N> {
         // TODO: Find a better solution than the brute force one
         // See e.g. https://en.wikipedia.org/wiki/Lowest_common_ancestor
 
-        Map<N, Integer> a1 = ancestors((N) this, new HashMap<>(), 1);
-        Map<N, Integer> a2 = ancestors(other, new HashMap<>(), 1);
+        Map<N, Integer> a1 = ancestors((N) this);
+        Map<N, Integer> a2 = ancestors(other);
 
         N node = null;
         Integer distance = null;
@@ -111,14 +113,24 @@ abstract class AbstractNode<N extends Node<N>> implements Node<N> {
         return node;
     }
 
-    private Map<N, Integer> ancestors(N node, Map<N, Integer> result, int distance) {
-        Integer previous = result.get(node);
+    /**
+     * The shortest distance to each ancestor, computed breadth first, such that
+     * every ancestor is visited only once.
+     */
+    private Map<N, Integer> ancestors(N node) {
+        Map<N, Integer> result = new HashMap<>();
+        Deque<N> queue = new ArrayDeque<>();
 
-        if (previous == null || previous > distance) {
-            result.put(node, distance);
+        result.put(node, 1);
+        queue.add(node);
 
-            for (N parent : node.parents())
-                ancestors(parent, result, distance + 1);
+        while (!queue.isEmpty()) {
+            N n = queue.poll();
+            int distance = result.get(n) + 1;
+
+            for (N parent : n.parents())
+                if (result.putIfAbsent(parent, distance) == null)
+                    queue.add(parent);
         }
 
         return result;
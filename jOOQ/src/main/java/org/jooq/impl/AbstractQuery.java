@@ -62,6 +62,7 @@ import static org.jooq.impl.Tools.BooleanDataKey.DATA_FORCE_STATIC_STATEMENT;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -101,6 +102,8 @@ abstract class AbstractQuery<R extends Record> extends AbstractFetchable<R> impl
     transient PreparedStatement     statement;
     transient int                   statementExecutionCount;
     transient Rendered              rendered;
+    transient volatile Query        executingChunk;
+    transient List<? extends Query> keptChunks;
 
     AbstractQuery(Configuration configuration) {
         this.configuration = configuration;
@@ -167,19 +170,14 @@ abstract class AbstractQuery<R extends Record> extends AbstractFetchable<R> impl
         if (index != null)
             return bind(index, value);
 
-        ParamCollector collector = new ParamCollector(configuration(), true);
+        ParamCollector collector = new ParamCollector(configuration(), true, TRUE.equals(Tools.settings(configuration()).isNamedParamDeduplication()));
         collector.visit(this);
         List<Param<?>> params = collector.result.get(param);
 
         if (params == null || params.size() == 0)
             throw new IllegalArgumentException("No such parameter : " + param);
 
-        for (Param<?> p : params) {
-            ((AbstractParamX<?>) p).setConverted0(value);
-            closeIfNecessary(p);
-        }
-
-        return this;
+        return bind0(params, value);
     }
 
     /**
@@ -189,6 +187,18 @@ abstract class AbstractQuery<R extends Record> extends AbstractFetchable<R> impl
      */
     @Override
     public Query bind(int index, Object value) {
+
+        // Deduplicated bind values share their index with all of their occurrences
+        if (TRUE.equals(Tools.settings(configuration()).isNamedParamDeduplication())) {
+            ParamCollector collector = new ParamCollector(configuration(), true, true);
+            collector.visit(this);
+
+            if (index < 1 || index > collector.result.size())
+                throw new IllegalArgumentException("Index out of range for Query parameters : " + index);
+
+            return bind0(new ArrayList<>(collector.result.values()).get(index - 1), value);
+        }
+
         Param<?>[] params = getParams().values().toArray(EMPTY_PARAM);
 
         if (index < 1 || index > params.length)
@@ -200,6 +210,15 @@ abstract class AbstractQuery<R extends Record> extends AbstractFetchable<R> impl
         return this;
     }
 
+    private final Query bind0(List<Param<?>> params, Object value) {
+        for (Param<?> p : params) {
+            ((AbstractParamX<?>) p).setConverted0(value);
+            closeIfNecessary(p);
+        }
+
+        return this;
+    }
+
     /**
      * Close the statement if necessary.
      * <p>
@@ -267,6 +286,8 @@ abstract class AbstractQuery<R extends Record> extends AbstractFetchable<R> impl
 
     @Override
     public final void close() {
+        closeChunks();
+
         if (statement != null) {
             try {
                 statement.close();
@@ -278,9 +299,24 @@ abstract class AbstractQuery<R extends Record> extends AbstractFetchable<R> impl
         }
     }
 
+    private final void closeChunks() {
+        if (keptChunks != null) {
+            List<? extends Query> c = keptChunks;
+            keptChunks = null;
+
+            for (Query chunk : c)
+                chunk.close();
+        }
+    }
+
     @Override
     public final void cancel() {
-        if (statement != null) {
+        Query chunk = executingChunk;
+
+        if (chunk != null) {
+            chunk.cancel();
+        }
+        else if (statement != null) {
             try {
                 statement.cancel();
             }
@@ -294,6 +330,34 @@ abstract class AbstractQuery<R extends Record> extends AbstractFetchable<R> impl
     public final int execute() {
         if (isExecutable()) {
 
+            // Queries exceeding the bind value limit may be split into several statements
+            List<? extends Query> chunks = chunks();
+            if (chunks != null) {
+                int result = 0;
+                closeChunks();
+
+                try {
+                    for (Query chunk : chunks) {
+                        chunk.queryTimeout(timeout).keepStatement(keepStatement);
+
+                        if (poolable != QueryPoolable.DEFAULT)
+                            chunk.poolable(poolable == QueryPoolable.TRUE);
+
+                        executingChunk = chunk;
+                        result += chunk.execute();
+                    }
+                }
+                finally {
+                    executingChunk = null;
+
+                    // Kept statements are closed along with this query
+                    if (keepStatement())
+                        keptChunks = chunks;
+                }
+
+                return result;
+            }
+
             // Get the attached configuration of this query
             Configuration c = configuration();
 
@@ -436,6 +500,15 @@ abstract class AbstractQuery<R extends Record> extends AbstractFetchable<R> impl
             ctx.statement(ctx.connection().prepareStatement(ctx.sql()));
     }
 
+    /**
+     * Split this query into several queries that stay within the dialect's
+     * bind value limit, or return <code>null</code> if this query doesn't need
+     * to be split.
+     */
+    List<? extends Query> chunks() {
+        return null;
+    }
+
     /**
      * Default implementation for query execution using a prepared statement.
      * Subclasses may override this method.
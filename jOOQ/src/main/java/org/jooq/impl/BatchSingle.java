@@ -40,11 +40,15 @@ package org.jooq.impl;
 import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
 import static org.jooq.impl.Tools.fields;
+import static org.jooq.impl.Tools.maxBindValues;
 import static org.jooq.impl.Tools.visitAll;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -55,6 +59,7 @@ import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
+import org.jooq.Field;
 import org.jooq.Param;
 import org.jooq.Query;
 import org.jooq.conf.SettingsTools;
@@ -158,8 +163,14 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
         // should be used...
         if (executeStaticStatements(configuration.settings()))
             return executeStatic();
+
+        Param<?>[] params = params();
+        InsertQueryImpl<?> insert = multiRowInsert(params);
+
+        if (insert != null)
+            return executeMultiRowInsert(insert, params);
         else
-            return executePrepared();
+            return executePrepared(params);
     }
 
     private final void checkBindValues() {
@@ -172,10 +183,7 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
                     log.info("Bind value count", "Batch bind value set " + i + " has " + allBindValues.get(i).length + " values when " + expectedBindValues + " values were expected");
     }
 
-    private final int[] executePrepared() {
-        ExecuteContext ctx = new DefaultExecuteContext(configuration, new Query[] { query });
-        ExecuteListener listener = ExecuteListeners.get(ctx);
-        Connection connection = ctx.connection();
+    private final Param<?>[] params() {
 
         // [#1371] fetch bind variables to restore them again, later
         // [#3940] Don't include inlined bind variables
@@ -187,6 +195,81 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
         for (int i = 0; it.hasNext(); i++)
             params[i] = it.next().getValue();
 
+        return params;
+    }
+
+    /**
+     * Get the batched query as a single row <code>INSERT .. VALUES</code>
+     * statement whose values are exactly its bind values, if it should be
+     * rewritten to multi row <code>INSERT</code> statements.
+     */
+    private final InsertQueryImpl<?> multiRowInsert(Param<?>[] params) {
+        Integer size = configuration.settings().getBatchMultiRowInsertSize();
+
+        if (size == null || size <= 1 || allBindValues.size() <= 1 || params.length == 0)
+            return null;
+
+        Query q = query instanceof AbstractDelegatingQuery
+            ? ((AbstractDelegatingQuery<?, ?>) query).getDelegate()
+            : query;
+
+        if (!(q instanceof InsertQueryImpl) || !((InsertQueryImpl<?>) q).isPlainValues())
+            return null;
+
+        InsertQueryImpl<?> insert = (InsertQueryImpl<?>) q;
+        if (insert.getInsertMaps().rows != 1)
+            return null;
+
+        Collection<List<Field<?>>> columns = insert.getInsertMaps().values.values();
+
+        if (columns.size() != params.length)
+            return null;
+
+        int i = 0;
+        for (List<Field<?>> column : columns)
+            if (column.get(0) != params[i++])
+                return null;
+
+        for (Object[] bindValues : allBindValues)
+            if (bindValues.length != params.length)
+                return null;
+
+        return insert;
+    }
+
+    private final int[] executeMultiRowInsert(InsertQueryImpl<?> insert, Param<?>[] params) {
+        int[] result = new int[allBindValues.size()];
+        int chunk = Math.min(
+            configuration.settings().getBatchMultiRowInsertSize(),
+            Math.max(1, maxBindValues(configuration) / params.length)
+        );
+
+        for (int from = 0; from < result.length; from += chunk) {
+            int to = Math.min(from + chunk, result.length);
+            InsertQueryImpl<?> q = new InsertQueryImpl<>(configuration, null, insert.table());
+            FieldMapsForInsert maps = q.getInsertMaps();
+            maps.addFields(insert.getInsertMaps().fields());
+
+            for (int i = from; i < to; i++) {
+                if (i > from)
+                    maps.newRecord();
+
+                maps.set(fields(allBindValues.get(i), params));
+            }
+
+            // Per row update counts are only known if all rows were inserted
+            int count = q.execute();
+            Arrays.fill(result, from, to, count == to - from ? 1 : Statement.SUCCESS_NO_INFO);
+        }
+
+        return result;
+    }
+
+    private final int[] executePrepared(Param<?>[] params) {
+        ExecuteContext ctx = new DefaultExecuteContext(configuration, new Query[] { query });
+        ExecuteListener listener = ExecuteListeners.get(ctx);
+        Connection connection = ctx.connection();
+
         try {
             // [#8968] Keep start() event inside of lifecycle management
             listener.start(ctx);
@@ -0,0 +1,171 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.conf.ParamType.INLINED;
+import static org.jooq.impl.Keywords.K_NULL;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.jooq.Binding;
+import org.jooq.BindingGetResultSetContext;
+import org.jooq.BindingGetSQLInputContext;
+import org.jooq.BindingGetStatementContext;
+import org.jooq.BindingRegisterContext;
+import org.jooq.BindingSQLContext;
+import org.jooq.BindingSetSQLOutputContext;
+import org.jooq.BindingSetStatementContext;
+import org.jooq.Converter;
+import org.jooq.Cursor;
+import org.jooq.exception.DataTypeException;
+import org.jooq.tools.jdbc.JDBCUtils;
+
+/**
+ * A binding that streams binary values from and to the JDBC driver, rather
+ * than materialising them as <code>byte[]</code>.
+ * <p>
+ * Bind values are passed to
+ * {@link java.sql.PreparedStatement#setBinaryStream(int, InputStream)} and
+ * closed along with the other resources of the
+ * {@link org.jooq.ExecuteContext}. Fetched values are obtained from
+ * {@link java.sql.ResultSet#getBinaryStream(int)}, which means that they can
+ * only be consumed while the underlying {@link java.sql.ResultSet} is open,
+ * i.e. typically while iterating a lazy {@link Cursor}, and many JDBC drivers
+ * require consuming them before moving the cursor to the next row.
+ * <p>
+ * Stream contents cannot be inlined in SQL, as that would consume them before
+ * execution. Rendering a non-<code>null</code> value with
+ * {@link org.jooq.conf.ParamType#INLINED}, e.g. when executing with
+ * {@link org.jooq.conf.StatementType#STATIC_STATEMENT}, throws a
+ * {@link DataTypeException}. OUT parameters and
+ * {@link java.sql.SQLInput} values are read into memory, as their underlying
+ * resources do not outlive statement execution.
+ *
+ * @author Lukas Eder
+ * @see SQLDataType#BLOBSTREAM
+ */
+public class BinaryStreamBinding implements Binding<byte[], InputStream> {
+
+    /**
+     * Generated UID
+     */
+    private static final long serialVersionUID = -4187206394452347262L;
+
+    @Override
+    public final Converter<byte[], InputStream> converter() {
+        return Converter.ofNullable(byte[].class, InputStream.class, ByteArrayInputStream::new, BinaryStreamBinding::bytes);
+    }
+
+    @Override
+    public final void sql(BindingSQLContext<InputStream> ctx) throws SQLException {
+        if (ctx.render().paramType() != INLINED)
+            ctx.render().sql(ctx.variable());
+        else if (ctx.value() == null)
+            ctx.render().visit(K_NULL);
+        else
+            throw new DataTypeException("Cannot inline binary stream bind values. Use bind variables, or SQLDataType.BLOB instead");
+    }
+
+    @Override
+    public final void register(BindingRegisterContext<InputStream> ctx) throws SQLException {
+        ctx.statement().registerOutParameter(ctx.index(), Types.BLOB);
+    }
+
+    @Override
+    public final void set(BindingSetStatementContext<InputStream> ctx) throws SQLException {
+        if (ctx.value() == null)
+            ctx.statement().setNull(ctx.index(), Types.BLOB);
+        else
+            ctx.statement().setBinaryStream(ctx.index(), ctx.autoClose(ctx.value()));
+    }
+
+    @Override
+    public final void set(BindingSetSQLOutputContext<InputStream> ctx) throws SQLException {
+        ctx.output().writeBinaryStream(ctx.value() == null ? null : ctx.autoClose(ctx.value()));
+    }
+
+    @Override
+    public final void get(BindingGetResultSetContext<InputStream> ctx) throws SQLException {
+        ctx.value(ctx.resultSet().getBinaryStream(ctx.index()));
+    }
+
+    @Override
+    public final void get(BindingGetStatementContext<InputStream> ctx) throws SQLException {
+        Blob blob = ctx.statement().getBlob(ctx.index());
+
+        try {
+            ctx.value(blob == null ? null : new ByteArrayInputStream(blob.getBytes(1, (int) blob.length())));
+        }
+        finally {
+            JDBCUtils.safeFree(blob);
+        }
+    }
+
+    @Override
+    public final void get(BindingGetSQLInputContext<InputStream> ctx) throws SQLException {
+        InputStream stream = ctx.input().readBinaryStream();
+
+        try {
+            ctx.value(stream == null ? null : new ByteArrayInputStream(bytes(stream)));
+        }
+        finally {
+            JDBCUtils.safeClose(stream);
+        }
+    }
+
+    private static final byte[] bytes(InputStream stream) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+
+            for (int read; (read = stream.read(buffer)) != -1;)
+                out.write(buffer, 0, read);
+
+            return out.toByteArray();
+        }
+        catch (IOException e) {
+            throw new DataTypeException("Error while reading binary stream", e);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.jooq.tools.StringUtils.rightPad;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.jooq.Configuration;
+import org.jooq.Meta;
+import org.jooq.MetaProvider;
+import org.jooq.ResultQuery;
+import org.jooq.exception.IOException;
+import org.jooq.tools.JooqLogger;
+import org.jooq.util.jaxb.tools.MiniJAXB;
+import org.jooq.util.xml.jaxb.InformationSchema;
+
+/**
+ * A {@link MetaProvider} that caches the {@link Meta#informationSchema()}
+ * export of another {@link MetaProvider} in a local file.
+ * <p>
+ * The snapshot file is keyed by a user-supplied schema fingerprint, which
+ * should be cheap to compute (e.g. the maximum DDL timestamp of a dictionary
+ * view, or a schema version number maintained by a migration tool). When the
+ * fingerprint matches the one stored with the snapshot, the {@link Meta} is
+ * produced from the snapshot without querying the delegate. When it doesn't
+ * match, the stale snapshot is still served, and a refresh is scheduled
+ * asynchronously on the {@link Configuration#executorProvider()}. If there is
+ * no snapshot at all, the delegate is queried synchronously.
+ * <p>
+ * Snapshots are stored as {@link InformationSchema} XML content, preceded by
+ * a single fingerprint line. If the file name ends with <code>.gz</code>, the
+ * content is GZIP compressed. The most recently read or written snapshot is
+ * kept in memory, and the file is only read again when it changes.
+ * <p>
+ * Do not pass {@link Configuration#metaProvider()} of a configuration that
+ * uses this provider as its delegate, to prevent infinite recursion. Use e.g.
+ * {@link DefaultMetaProvider} instead.
+ *
+ * @author Lukas Eder
+ */
+public class CachingMetaProvider implements MetaProvider {
+
+    private static final JooqLogger  log = JooqLogger.getLogger(CachingMetaProvider.class);
+
+    private final Configuration      configuration;
+    private final MetaProvider       delegate;
+    private final File               file;
+    private final Supplier<String>   fingerprint;
+    private final AtomicBoolean      refreshing;
+
+    /**
+     * The most recently read or written snapshot, which is reused for as long
+     * as the file doesn't change.
+     */
+    private volatile Snapshot        last;
+
+    public CachingMetaProvider(Configuration configuration, File file, ResultQuery<?> fingerprint) {
+        this(configuration, new DefaultMetaProvider(configuration), file, fingerprint);
+    }
+
+    public CachingMetaProvider(Configuration configuration, MetaProvider delegate, File file, ResultQuery<?> fingerprint) {
+        this(configuration, delegate, file, () -> configuration.dsl().fetch(fingerprint).formatCSV());
+    }
+
+    public CachingMetaProvider(Configuration configuration, File file, Supplier<String> fingerprint) {
+        this(configuration, new DefaultMetaProvider(configuration), file, fingerprint);
+    }
+
+    public CachingMetaProvider(Configuration configuration, MetaProvider delegate, File file, Supplier<String> fingerprint) {
+        this.configuration = configuration;
+        this.delegate = delegate;
+        this.file = file;
+        this.fingerprint = fingerprint;
+        this.refreshing = new AtomicBoolean();
+    }
+
+    @Override
+    public Meta provide() {
+        String f = key(fingerprint.get());
+        Snapshot snapshot = read();
+
+        if (snapshot == null)
+            return new InformationSchemaMetaImpl(configuration, refresh(f));
+
+        if (!f.equals(snapshot.fingerprint) && refreshing.compareAndSet(false, true))
+            configuration.executorProvider().provide().execute(() -> {
+                try {
+                    refresh(f);
+                }
+                catch (Exception e) {
+                    log.warn("Meta snapshot", "Could not refresh meta snapshot " + file, e);
+                }
+                finally {
+                    refreshing.set(false);
+                }
+            });
+
+        return new InformationSchemaMetaImpl(configuration, snapshot.schema);
+    }
+
+    /**
+     * Export the delegate's {@link Meta} and write it to the snapshot file.
+     */
+    private final InformationSchema refresh(String f) {
+        InformationSchema schema = delegate.provide().informationSchema();
+        write(f, schema);
+        last = new Snapshot(f, schema, file.lastModified(), file.length());
+        return schema;
+    }
+
+    private final Snapshot read() {
+        if (!file.exists())
+            return null;
+
+        long modified = file.lastModified();
+        long length = file.length();
+        Snapshot s = last;
+
+        if (s != null && s.modified == modified && s.length == length)
+            return s;
+
+        try (InputStream in = input();
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, UTF_8))) {
+            String f = reader.readLine();
+
+            if (f == null)
+                return null;
+            else
+                return last = new Snapshot(f, MiniJAXB.unmarshal(reader, InformationSchema.class), modified, length);
+        }
+
+        // A corrupt or incompatible snapshot is treated like a missing one
+        catch (Exception e) {
+            log.warn("Meta snapshot", "Could not read meta snapshot " + file, e);
+            return null;
+        }
+    }
+
+    private final void write(String f, InformationSchema schema) {
+        File parent = file.getAbsoluteFile().getParentFile();
+        File tmp = null;
+
+        try {
+            parent.mkdirs();
+
+            // Write to a temporary file of this writer first, so concurrent
+            // readers never see partial content, and concurrent writers don't
+            // interleave their content
+            tmp = File.createTempFile(rightPad(file.getName(), 3, '_'), ".tmp", parent);
+
+            try (OutputStream out = output(tmp);
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, UTF_8))) {
+                writer.write(f);
+                writer.write('\n');
+                MiniJAXB.marshal(schema, writer);
+            }
+
+            try {
+                Files.move(tmp.toPath(), file.toPath(), ATOMIC_MOVE, REPLACE_EXISTING);
+            }
+            catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp.toPath(), file.toPath(), REPLACE_EXISTING);
+            }
+        }
+        catch (java.io.IOException e) {
+            throw new IOException("Could not write meta snapshot " + file, e);
+        }
+
+        // The temporary file only remains if anything failed
+        finally {
+            if (tmp != null && tmp.exists())
+                tmp.delete();
+        }
+    }
+
+    private final InputStream input() throws java.io.IOException {
+        InputStream in = new FileInputStream(file);
+
+        try {
+            return gzip() ? new GZIPInputStream(in) : in;
+        }
+        catch (java.io.IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    private final OutputStream output(File f) throws java.io.IOException {
+        OutputStream out = new FileOutputStream(f);
+
+        try {
+            return gzip() ? new GZIPOutputStream(out) : out;
+        }
+        catch (java.io.IOException | RuntimeException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    private final boolean gzip() {
+        return file.getName().endsWith(".gz");
+    }
+
+    /**
+     * Fingerprints may contain line breaks, but are stored on a single line.
+     */
+    private static final String key(String f) {
+        return f == null ? "" : f.replace("\\", "\\\\").replace("\r", "\\r").replace("\n", "\\n");
+    }
+
+    private static final class Snapshot {
+        final String            fingerprint;
+        final InformationSchema schema;
+        final long              modified;
+        final long              length;
+
+        Snapshot(String fingerprint, InformationSchema schema, long modified, long length) {
+            this.fingerprint = fingerprint;
+            this.schema = schema;
+            this.modified = modified;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.conf.ParamType.INLINED;
+import static org.jooq.impl.Keywords.K_NULL;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.jooq.Binding;
+import org.jooq.BindingGetResultSetContext;
+import org.jooq.BindingGetSQLInputContext;
+import org.jooq.BindingGetStatementContext;
+import org.jooq.BindingRegisterContext;
+import org.jooq.BindingSQLContext;
+import org.jooq.BindingSetSQLOutputContext;
+import org.jooq.BindingSetStatementContext;
+import org.jooq.Converter;
+import org.jooq.Cursor;
+import org.jooq.exception.DataTypeException;
+import org.jooq.tools.jdbc.JDBCUtils;
+
+/**
+ * A binding that streams character values from and to the JDBC driver, rather
+ * than materialising them as {@link String}.
+ * <p>
+ * Bind values are passed to
+ * {@link java.sql.PreparedStatement#setCharacterStream(int, Reader)} and
+ * closed along with the other resources of the
+ * {@link org.jooq.ExecuteContext}. Fetched values are obtained from
+ * {@link java.sql.ResultSet#getCharacterStream(int)}, which means that they can
+ * only be consumed while the underlying {@link java.sql.ResultSet} is open,
+ * i.e. typically while iterating a lazy {@link Cursor}, and many JDBC drivers
+ * require consuming them before moving the cursor to the next row.
+ * <p>
+ * Stream contents cannot be inlined in SQL, as that would consume them before
+ * execution. Rendering a non-<code>null</code> value with
+ * {@link org.jooq.conf.ParamType#INLINED}, e.g. when executing with
+ * {@link org.jooq.conf.StatementType#STATIC_STATEMENT}, throws a
+ * {@link DataTypeException}. OUT parameters and
+ * {@link java.sql.SQLInput} values are read into memory, as their underlying
+ * resources do not outlive statement execution.
+ *
+ * @author Lukas Eder
+ * @see SQLDataType#CLOBSTREAM
+ */
+public class CharacterStreamBinding implements Binding<String, Reader> {
+
+    /**
+     * Generated UID
+     */
+    private static final long serialVersionUID = 6510374592274841537L;
+
+    @Override
+    public final Converter<String, Reader> converter() {
+        return Converter.ofNullable(String.class, Reader.class, StringReader::new, CharacterStreamBinding::string);
+    }
+
+    @Override
+    public final void sql(BindingSQLContext<Reader> ctx) throws SQLException {
+        if (ctx.render().paramType() != INLINED)
+            ctx.render().sql(ctx.variable());
+        else if (ctx.value() == null)
+            ctx.render().visit(K_NULL);
+        else
+            throw new DataTypeException("Cannot inline character stream bind values. Use bind variables, or SQLDataType.CLOB instead");
+    }
+
+    @Override
+    public final void register(BindingRegisterContext<Reader> ctx) throws SQLException {
+        ctx.statement().registerOutParameter(ctx.index(), Types.CLOB);
+    }
+
+    @Override
+    public final void set(BindingSetStatementContext<Reader> ctx) throws SQLException {
+        if (ctx.value() == null)
+            ctx.statement().setNull(ctx.index(), Types.CLOB);
+        else
+            ctx.statement().setCharacterStream(ctx.index(), ctx.autoClose(ctx.value()));
+    }
+
+    @Override
+    public final void set(BindingSetSQLOutputContext<Reader> ctx) throws SQLException {
+        ctx.output().writeCharacterStream(ctx.value() == null ? null : ctx.autoClose(ctx.value()));
+    }
+
+    @Override
+    public final void get(BindingGetResultSetContext<Reader> ctx) throws SQLException {
+        ctx.value(ctx.resultSet().getCharacterStream(ctx.index()));
+    }
+
+    @Override
+    public final void get(BindingGetStatementContext<Reader> ctx) throws SQLException {
+        Clob clob = ctx.statement().getClob(ctx.index());
+
+        try {
+            ctx.value(clob == null ? null : new StringReader(clob.getSubString(1, (int) clob.length())));
+        }
+        finally {
+            JDBCUtils.safeFree(clob);
+        }
+    }
+
+    @Override
+    public final void get(BindingGetSQLInputContext<Reader> ctx) throws SQLException {
+        Reader reader = ctx.input().readCharacterStream();
+
+        try {
+            ctx.value(reader == null ? null : new StringReader(string(reader)));
+        }
+        finally {
+            JDBCUtils.safeClose(reader);
+        }
+    }
+
+    private static final String string(Reader reader) {
+        try {
+            StringBuilder out = new StringBuilder();
+            char[] buffer = new char[8192];
+
+            for (int read; (read = reader.read(buffer)) != -1;)
+                out.append(buffer, 0, read);
+
+            return out.toString();
+        }
+        catch (IOException e) {
+            throw new DataTypeException("Error while reading character stream", e);
+        }
+    }
+}
@@ -62,12 +62,34 @@ import org.jooq.SortOrder;
 final class Comparators {
 
     static final Comparator<Named>            NAMED_COMP       = comparing(Named::getQualifiedName);
-    static final Comparator<Key<?>>           KEY_COMP         = new KeyComparator();
-    static final Comparator<ForeignKey<?, ?>> FOREIGN_KEY_COMP = new ForeignKeyComparator();
+    static final Comparator<Key<?>>           KEY_COMP         = keyComparator(NAMED_COMP);
+    static final Comparator<ForeignKey<?, ?>> FOREIGN_KEY_COMP = foreignKeyComparator(NAMED_COMP);
     static final Comparator<Check<?>>         CHECK_COMP       = comparing(c -> c.condition().toString());
     static final Comparator<Index>            INDEX_COMP       = new IndexComparator();
 
+    /**
+     * A {@link Key} comparator that compares key fields using a custom
+     * {@link Named} comparator.
+     */
+    static final Comparator<Key<?>> keyComparator(Comparator<? super Named> names) {
+        return new KeyComparator(names);
+    }
+
+    /**
+     * A {@link ForeignKey} comparator that compares key fields using a custom
+     * {@link Named} comparator.
+     */
+    static final Comparator<ForeignKey<?, ?>> foreignKeyComparator(Comparator<? super Named> names) {
+        return new ForeignKeyComparator(keyComparator(names));
+    }
+
     private static final class KeyComparator implements Comparator<Key<?>> {
+        private final Comparator<? super Named> names;
+
+        KeyComparator(Comparator<? super Named> names) {
+            this.names = names;
+        }
+
         @Override
         public int compare(Key<?> o1, Key<?> o2) {
             List<? extends Named> f1 = o1.getFields();
@@ -78,7 +100,7 @@ final class Comparators {
                 return c;
 
             for (int i = 0; i < f1.size(); i++) {
-                c = NAMED_COMP.compare(f1.get(i), f2.get(i));
+                c = names.compare(f1.get(i), f2.get(i));
 
                 if (c != 0)
                     return c;
@@ -89,14 +111,20 @@ final class Comparators {
     }
 
     private static final class ForeignKeyComparator implements Comparator<ForeignKey<?, ?>> {
+        private final Comparator<Key<?>> keys;
+
+        ForeignKeyComparator(Comparator<Key<?>> keys) {
+            this.keys = keys;
+        }
+
         @Override
         public int compare(ForeignKey<?, ?> o1, ForeignKey<?, ?> o2) {
-            int c = KEY_COMP.compare(o1, o2);
+            int c = keys.compare(o1, o2);
 
             if (c != 0)
                 return c;
             else
-                return KEY_COMP.compare(o1.getKey(), o2.getKey());
+                return keys.compare(o1.getKey(), o2.getKey());
         }
     }
 
@@ -45,11 +45,14 @@ import static org.jooq.RecordListener.onStoreEnd;
 import static org.jooq.impl.DSL.noCondition;
 import static org.jooq.impl.DSL.row;
 import static org.jooq.impl.Tools.EMPTY_RECORD;
+import static org.jooq.impl.Tools.maxBindValues;
+import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -283,7 +286,8 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
         Field<?>[] pk = pk();
 
         if (pk != null)
-            ctx().delete(table).where(equal(pk, ids)).execute();
+            for (List<T> chunk : chunks(ids, pk.length))
+                ctx().delete(table).where(equal(pk, chunk)).execute();
     }
 
     @Override
@@ -355,10 +359,22 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
 
     @Override
     public /* non-final */ <Z> List<P> fetch(Field<Z> field, Collection<? extends Z> values) {
-        return ctx()
-            .selectFrom(table)
-            .where(field.in(values))
-            .fetch(mapper());
+        List<List<Z>> chunks = chunks(values, 1);
+
+        if (chunks.size() == 1)
+            return ctx()
+                .selectFrom(table)
+                .where(field.in(chunks.get(0)))
+                .fetch(mapper());
+
+        List<P> result = new ArrayList<>();
+        for (List<Z> chunk : chunks)
+            result.addAll(ctx()
+                .selectFrom(table)
+                .where(field.in(chunk))
+                .fetch(mapper()));
+
+        return result;
     }
 
     @Override
@@ -407,6 +423,39 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
     // XXX: Private utility methods
     // ------------------------------------------------------------------------
 
+    /**
+     * Split a collection of values into chunks whose bind values don't exceed
+     * the bind value limit, if {@link Settings#isSplitStatementsAtBindValueLimit()}
+     * is active.
+     */
+    private /* non-final */ <Z> List<List<Z>> chunks(Collection<? extends Z> values, int bindsPerValue) {
+        Settings settings = settings();
+        int limit = Math.max(1, maxBindValues(configuration()) / bindsPerValue);
+
+        // IN list padding may pad a chunk up to the next power of the padding base
+        if (TRUE.equals(settings.isInListPadding())) {
+            int base = Math.max(2, defaultIfNull(settings.getInListPadBase(), 2));
+            int padded = 1;
+
+            while (padded <= limit / base)
+                padded *= base;
+
+            limit = padded;
+        }
+
+        if (!TRUE.equals(settings.isSplitStatementsAtBindValueLimit()) || values.size() <= limit)
+            return singletonList(new ArrayList<>(values));
+
+        // Duplicate values in different chunks would produce duplicate results
+        List<Z> distinct = new ArrayList<>(new LinkedHashSet<>(values));
+        List<List<Z>> result = new ArrayList<>();
+
+        for (int i = 0; i < distinct.size(); i += limit)
+            result.add(distinct.subList(i, Math.min(i + limit, distinct.size())));
+
+        return result;
+    }
+
     @SuppressWarnings("unchecked")
     private /* non-final */ Condition equal(Field<?>[] pk, T id) {
         if (pk.length == 1) {
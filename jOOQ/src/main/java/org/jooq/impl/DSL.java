@@ -14945,6 +14945,30 @@ public class DSL {
         return new RowField<>(row);
     }
 
+    /**
+     * Create a <code>MULTISET</code> nested collection from a (usually
+     * correlated) subquery.
+     * <p>
+     * The nested collection is fetched in the same round trip as the
+     * enclosing query, as a {@link Result} of the subquery's record type. It
+     * is emulated using SQL/JSON aggregation, e.g.
+     * <code><pre>
+     * (select coalesce(json_arrayagg(json_array(t.v0, t.v1, ...)), json_array()) from (...) as t)
+     * </pre></code>
+     * <p>
+     * The resulting JSON arrays are decoded directly into records of the
+     * subquery's {@link Field} types.
+     * <p>
+     * As the subquery is wrapped in a derived table, correlated subqueries
+     * require support for outer references from derived tables, e.g.
+     * MySQL 8.0.14 or later. MariaDB does not support this.
+     */
+    @NotNull
+    @Support({ H2, MYSQL, POSTGRES })
+    public static <R extends Record> Field<Result<R>> multiset(Select<R> select) {
+        return new Multiset<>(select);
+    }
+
     /**
      * Transform a subquery into a correlated subquery.
      */
@@ -2476,17 +2476,11 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
 
         static final <E extends EnumType> E getEnumType(Class<? extends E> type, String literal) {
             try {
-                E[] list = Tools.enums(type);
-
-                for (E e : list)
-                    if (e.getLiteral().equals(literal))
-                        return e;
+                return Tools.lookupLiteral(type, literal);
             }
             catch (Exception e) {
                 throw new DataTypeException("Unknown enum literal found : " + literal);
             }
-
-            return null;
         }
     }
 
@@ -3635,9 +3629,10 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
                 }
                 else {
                     Object[] result = (Object[]) java.lang.reflect.Array.newInstance(component, values.size());
+                    Converter<?, ?> converter = Converters.identity(component);
 
                     for (int i = 0; i < values.size(); i++)
-                        result[i] = pgFromString(type.getComponentType(), values.get(i));
+                        result[i] = pgFromString(converter, values.get(i));
 
                     return result;
                 }
@@ -59,6 +59,7 @@ import org.jooq.JSONB;
 import org.jooq.Record;
 import org.jooq.UDTRecord;
 import org.jooq.XML;
+import org.jooq.tools.ClassPairCache;
 import org.jooq.tools.Convert;
 
 import org.jetbrains.annotations.Nullable;
@@ -73,11 +74,22 @@ public final class DefaultConverterProvider implements ConverterProvider, Serial
     /**
      * Generated UID
      */
-    private static final long serialVersionUID = 2937225066265868374L;
+    private static final long                                              serialVersionUID = 2937225066265868374L;
 
+    /**
+     * Cached converters by source type and target type, or
+     * {@link Optional#empty()} if no converter can be provided.
+     */
+    private static final ClassPairCache<Optional<Converter<?, ?>>>        CONVERTERS       = new ClassPairCache<>(256);
+
+    @SuppressWarnings("unchecked")
     @Nullable
     @Override
-    public final <T, U> Converter<T, U> provide(final Class<T> tType, final Class<U> uType) {
+    public final <T, U> Converter<T, U> provide(Class<T> tType, Class<U> uType) {
+        return (Converter<T, U>) CONVERTERS.get(tType, uType, (t, u) -> Optional.ofNullable(provide0(t, u))).orElse(null);
+    }
+
+    private final <T, U> Converter<T, U> provide0(Class<T> tType, Class<U> uType) {
         Class<?> tWrapper = wrapper(tType);
         Class<?> uWrapper = wrapper(uType);
 
@@ -117,16 +129,18 @@ public final class DefaultConverterProvider implements ConverterProvider, Serial
                 /**
                  * Generated UID.
                  */
-                private static final long serialVersionUID = 8011099590775678430L;
+                private static final long                serialVersionUID = 8011099590775678430L;
+                private final Converter<Object, U>       from             = Convert.converter(tType, uType);
+                private final Converter<Object, T>       to               = Convert.converter(uType, tType);
 
                 @Override
                 public U from(T t) {
-                    return Convert.convert(t, uType);
+                    return from.from(t);
                 }
 
                 @Override
                 public T to(U u) {
-                    return Convert.convert(u, tType);
+                    return to.from(u);
                 }
             };
         }
@@ -71,6 +71,7 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import static java.lang.Boolean.TRUE;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static org.jooq.conf.ParamType.*;
@@ -529,7 +530,7 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
 
     @Override
     public Map<String, Param<?>> extractParams(QueryPart part) {
-        ParamCollector collector = new ParamCollector(configuration(), true);
+        ParamCollector collector = new ParamCollector(configuration(), true, TRUE.equals(settings().isNamedParamDeduplication()));
         collector.visit(part);
         return Collections.unmodifiableMap(collector.resultFlat);
     }
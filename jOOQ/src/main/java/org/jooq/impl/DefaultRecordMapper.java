@@ -87,6 +87,7 @@ import javax.persistence.Column;
 
 import org.jooq.Attachable;
 import org.jooq.Configuration;
+import org.jooq.Converter;
 import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.Record1;
@@ -550,10 +551,17 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
      */
     private class ArrayMapper implements RecordMapper<R, E> {
 
-        private final E instance;
+        private final E                        instance;
+        private final Converter<Object, ?>[]   converters;
 
+        @SuppressWarnings("unchecked")
         ArrayMapper(E instance) {
             this.instance = instance;
+            this.converters = (Converter<Object, ?>[]) new Converter<?, ?>[fields.length];
+
+            Class<?> componentType = type.getComponentType();
+            for (int i = 0; i < fields.length; i++)
+                converters[i] = Convert.converter(fields[i].getType(), componentType);
         }
 
         @Override
@@ -570,7 +578,9 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
                 result = (Object[]) Array.newInstance(componentType, size);
 
             for (int i = 0; i < size; i++)
-                result[i] = Convert.convert(record.get(i), componentType);
+                result[i] = i < converters.length
+                    ? converters[i].from(record.get(i))
+                    : Convert.convert(record.get(i), componentType);
 
             return (E) result;
         }
@@ -207,7 +207,7 @@ final class DiagnosticsConnection extends DefaultConnection {
     }
 
     // See https://stackoverflow.com/a/1953516/521799
-    static class LRU<V> extends LinkedHashMap<String, V> {
+    static class LRU<K, V> extends LinkedHashMap<K, V> {
         private static final long serialVersionUID = 5287799057535876982L;
         private final int         size;
 
@@ -217,7 +217,7 @@ final class DiagnosticsConnection extends DefaultConnection {
         }
 
         @Override
-        protected boolean removeEldestEntry(Entry<String, V> eldest) {
+        protected boolean removeEldestEntry(Entry<K, V> eldest) {
             return size() > size;
         }
     }
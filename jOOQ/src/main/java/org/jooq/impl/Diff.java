@@ -45,26 +45,29 @@ import static org.jooq.SQLDialect.MARIADB;
 // ...
 import static org.jooq.SQLDialect.MYSQL;
 import static org.jooq.impl.Comparators.CHECK_COMP;
-import static org.jooq.impl.Comparators.FOREIGN_KEY_COMP;
 import static org.jooq.impl.Comparators.INDEX_COMP;
-import static org.jooq.impl.Comparators.KEY_COMP;
-import static org.jooq.impl.Comparators.NAMED_COMP;
+import static org.jooq.impl.Comparators.foreignKeyComparator;
+import static org.jooq.impl.Comparators.keyComparator;
 import static org.jooq.impl.ConstraintType.CHECK;
 import static org.jooq.impl.ConstraintType.FOREIGN_KEY;
 import static org.jooq.impl.ConstraintType.PRIMARY_KEY;
 import static org.jooq.impl.ConstraintType.UNIQUE;
+import static org.jooq.impl.Tools.CTX;
 import static org.jooq.impl.Tools.NO_SUPPORT_TIMESTAMP_PRECISION;
 import static org.jooq.tools.StringUtils.defaultIfNull;
 import static org.jooq.tools.StringUtils.defaultString;
 import static org.jooq.tools.StringUtils.isEmpty;
 
 import java.math.BigDecimal;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import org.jooq.AlterSequenceFlagsStep;
@@ -92,6 +95,7 @@ import org.jooq.Sequence;
 import org.jooq.Table;
 import org.jooq.TableOptions.TableType;
 import org.jooq.UniqueKey;
+import org.jooq.conf.SettingsTools;
 import org.jooq.tools.StringUtils;
 
 /**
@@ -101,14 +105,18 @@ import org.jooq.tools.StringUtils;
  */
 final class Diff {
 
-    private static final Set<SQLDialect> NO_SUPPORT_PK_NAMES = SQLDialect.supportedBy(IGNITE, MARIADB, MYSQL);
+    private static final Set<SQLDialect>       NO_SUPPORT_PK_NAMES = SQLDialect.supportedBy(IGNITE, MARIADB, MYSQL);
 
-    private final MigrationConfiguration migrateConf;
-    private final DDLExportConfiguration exportConf;
-    private final DSLContext             ctx;
-    private final Meta                   meta1;
-    private final Meta                   meta2;
-    private final DDL                    ddl;
+    private final MigrationConfiguration           migrateConf;
+    private final DDLExportConfiguration           exportConf;
+    private final DSLContext                       ctx;
+    private final Meta                             meta1;
+    private final Meta                             meta2;
+    private final DDL                              ddl;
+    private final DSLContext                       names;
+    private final Map<Name, String>                keys;
+    private final Comparator<Key<?>>               keyComp;
+    private final Comparator<ForeignKey<?, ?>>     foreignKeyComp;
 
     Diff(Configuration configuration, MigrationConfiguration migrateConf, Meta meta1, Meta meta2) {
         this.migrateConf = migrateConf;
@@ -117,6 +125,12 @@ final class Diff {
         this.meta1 = meta1;
         this.meta2 = meta2;
         this.ddl = new DDL(ctx, exportConf);
+
+        // Names are compared like Name.compareTo() does, but rendered only once
+        this.names = DSL.using(CTX.configuration().derive(SettingsTools.clone(CTX.settings()).withRenderFormatted(true)));
+        this.keys = new HashMap<>();
+        this.keyComp = keyComparator(this::compareNames);
+        this.foreignKeyComp = foreignKeyComparator(this::compareNames);
     }
 
     final Queries queries() {
@@ -494,7 +508,7 @@ final class Diff {
                 r.queries.add(ctx.alterTable(t1).dropPrimaryKey(pk.constraint()));
         };
 
-        return append(result, pk1, pk2, KEY_COMP,
+        return append(result, pk1, pk2, keyComp,
             create,
             drop,
             keyMerge(t1, create, drop, PRIMARY_KEY),
@@ -506,7 +520,7 @@ final class Diff {
         final Create<UniqueKey<?>> create = (r, u) -> r.queries.add(ctx.alterTable(t1).add(u.constraint()));
         final Drop<UniqueKey<?>> drop = (r, u) -> r.queries.add(ctx.alterTable(t1).dropUnique(u.constraint()));
 
-        return append(result, uk1, uk2, KEY_COMP,
+        return append(result, uk1, uk2, keyComp,
             create,
             drop,
             keyMerge(t1, create, drop, UNIQUE),
@@ -526,7 +540,7 @@ final class Diff {
                 return;
             }
 
-            if (NAMED_COMP.compare(k1, k2) != 0)
+            if (compareNames(k1, k2) != 0)
 
                 // [#10813] Don't rename constraints in MySQL
                 if (type != PRIMARY_KEY || !NO_SUPPORT_PK_NAMES.contains(ctx.dialect()))
@@ -557,7 +571,7 @@ final class Diff {
                 return;
             }
 
-            if (NAMED_COMP.compare(k1, k2) != 0)
+            if (compareNames(k1, k2) != 0)
                 r.queries.add(ctx.alterDomain(d1).renameConstraint(n1).to(n2));
         };
     }
@@ -569,7 +583,7 @@ final class Diff {
                 r.queries.add(ctx.alterTable(t1).dropForeignKey(fk.constraint()));
         };
 
-        return append(result, fk1, fk2, FOREIGN_KEY_COMP,
+        return append(result, fk1, fk2, foreignKeyComp,
             create,
             drop,
             keyMerge(t1, create, drop, FOREIGN_KEY),
@@ -613,7 +627,7 @@ final class Diff {
                     drop.drop(r, ix1);
                     create.create(r, ix2);
                 }
-                else if (NAMED_COMP.compare(ix1, ix2) != 0)
+                else if (compareNames(ix1, ix2) != 0)
                     r.queries.add(ctx.alterTable(t1).renameIndex(ix1).to(ix2));
             },
             true
@@ -642,52 +656,46 @@ final class Diff {
         Merge<N> merge,
         boolean dropMergeCreate
     ) {
-        if (comp == null)
-            comp = NAMED_COMP;
-
-        N s1 = null;
-        N s2 = null;
-
-        Iterator<? extends N> i1 = sorted(l1, comp);
-        Iterator<? extends N> i2 = sorted(l2, comp);
+        Sorted<N> sorted1 = new Sorted<>(l1, comp);
+        Sorted<N> sorted2 = new Sorted<>(l2, comp);
+        int i1 = 0;
+        int i2 = 0;
 
         DiffResult dropped = dropMergeCreate ? new DiffResult(new ArrayList<>(), result.droppedFks) : result;
         DiffResult merged = dropMergeCreate ? new DiffResult(new ArrayList<>(), result.droppedFks) : result;
         DiffResult created = dropMergeCreate ? new DiffResult(new ArrayList<>(), result.droppedFks) : result;
 
         for (;;) {
-            if (s1 == null && i1.hasNext())
-                s1 = i1.next();
+            boolean h1 = i1 < sorted1.size();
+            boolean h2 = i2 < sorted2.size();
 
-            if (s2 == null && i2.hasNext())
-                s2 = i2.next();
-
-            if (s1 == null && s2 == null)
+            if (!h1 && !h2)
                 break;
 
-            int c = s1 == null
+            int c = !h1
                   ? 1
-                  : s2 == null
+                  : !h2
                   ? -1
-                  : comp.compare(s1, s2);
+                  : sorted1.compare(i1, sorted2, i2);
 
             if (c < 0) {
                 if (drop != null)
-                    drop.drop(dropped, s1);
+                    drop.drop(dropped, sorted1.get(i1));
 
-                s1 = null;
+                i1++;
             }
             else if (c > 0) {
                 if (create != null)
-                    create.create(created, s2);
+                    create.create(created, sorted2.get(i2));
 
-                s2 = null;
+                i2++;
             }
             else {
                 if (merge != null)
-                    merge.merge(merged, s1, s2);
+                    merge.merge(merged, sorted1.get(i1), sorted2.get(i2));
 
-                s1 = s2 = null;
+                i1++;
+                i2++;
             }
         }
 
@@ -712,10 +720,63 @@ final class Diff {
         void merge(DiffResult result, N named1, N named2);
     }
 
-    private static final <N extends Named> Iterator<N> sorted(List<N> list, Comparator<? super N> comp) {
-        List<N> result = new ArrayList<>(list);
-        result.sort(comp);
-        return result.iterator();
+    private final String key(Named named) {
+        return keys.computeIfAbsent(named.getQualifiedName(), n -> names.renderInlined(n.unquotedName()));
+    }
+
+    private final int compareNames(Named n1, Named n2) {
+        return key(n1).compareTo(key(n2));
+    }
+
+    /**
+     * A sorted copy of a list of objects to be diffed.
+     * <p>
+     * When objects are compared by name, each name is rendered only once into
+     * a key, rather than twice for every comparison, which would dominate the
+     * diff of large schemas.
+     */
+    private final class Sorted<N extends Named> {
+        final List<N>               list;
+        final String[]              keys;
+        final Comparator<? super N> comp;
+
+        Sorted(List<? extends N> list, Comparator<? super N> comp) {
+            this.list = new ArrayList<>(list);
+            this.comp = comp;
+
+            if (comp == null) {
+                List<Entry<String, N>> entries = new ArrayList<>(list.size());
+
+                for (N n : list)
+                    entries.add(new SimpleImmutableEntry<>(key(n), n));
+
+                entries.sort(Entry.comparingByKey());
+                this.keys = new String[entries.size()];
+
+                for (int i = 0; i < keys.length; i++) {
+                    keys[i] = entries.get(i).getKey();
+                    this.list.set(i, entries.get(i).getValue());
+                }
+            }
+            else {
+                this.keys = null;
+                this.list.sort(comp);
+            }
+        }
+
+        final int size() {
+            return list.size();
+        }
+
+        final N get(int index) {
+            return list.get(index);
+        }
+
+        final int compare(int index, Sorted<N> other, int otherIndex) {
+            return keys != null
+                 ? keys[index].compareTo(other.keys[otherIndex])
+                 : comp.compare(list.get(index), other.list.get(otherIndex));
+        }
     }
 
     private static final class DiffResult {
@@ -58,6 +58,7 @@ import static org.jooq.SQLDialect.CUBRID;
 import static org.jooq.SQLDialect.DERBY;
 // ...
 import static org.jooq.SQLDialect.FIREBIRD;
+import static org.jooq.SQLDialect.H2;
 // ...
 import static org.jooq.SQLDialect.HSQLDB;
 // ...
@@ -75,14 +76,19 @@ import static org.jooq.SQLDialect.POSTGRES;
 // ...
 // ...
 import static org.jooq.conf.ParamType.INDEXED;
+import static org.jooq.impl.DSL.all;
+import static org.jooq.impl.DSL.any;
 import static org.jooq.impl.DSL.falseCondition;
 import static org.jooq.impl.DSL.row;
+import static org.jooq.impl.DSL.selectFrom;
+import static org.jooq.impl.DSL.table;
 import static org.jooq.impl.DSL.trueCondition;
 import static org.jooq.impl.Keywords.K_AND;
 import static org.jooq.impl.Keywords.K_OR;
 import static org.jooq.impl.Tools.embeddedFields;
 import static org.jooq.tools.StringUtils.defaultIfNull;
 
+import java.lang.reflect.Array;
 import java.util.AbstractList;
 import java.util.List;
 import java.util.Set;
@@ -90,9 +96,13 @@ import java.util.Set;
 import org.jooq.Clause;
 import org.jooq.Comparator;
 import org.jooq.Context;
+import org.jooq.DataType;
 import org.jooq.Field;
+import org.jooq.Param;
+import org.jooq.Record1;
 import org.jooq.RowN;
 import org.jooq.SQLDialect;
+import org.jooq.Select;
 
 /**
  * @author Lukas Eder
@@ -105,6 +115,7 @@ final class InCondition<T> extends AbstractCondition {
     private static final Clause[]          CLAUSES_IN_NOT         = { CONDITION, CONDITION_NOT_IN };
     private static final Set<SQLDialect>   REQUIRES_IN_LIMIT      = SQLDialect.supportedBy(FIREBIRD);
     private static final Set<SQLDialect>   NO_SUPPORT_EMPTY_LISTS = SQLDialect.supportedBy(CUBRID, DERBY, FIREBIRD, HSQLDB, MARIADB, MYSQL, POSTGRES);
+    private static final Set<SQLDialect>   SUPPORT_ARRAY_BINDING  = SQLDialect.supportedBy(H2, HSQLDB, POSTGRES);
 
     private final Field<T>                 field;
     private final List<? extends Field<?>> values;
@@ -148,6 +159,30 @@ final class InCondition<T> extends AbstractCondition {
             else
                 ctx.visit(trueCondition());
         }
+
+        // A single array bind value produces the same SQL string for all list sizes
+        else if (arrayBinding(ctx)) {
+            switch (ctx.family()) {
+
+                // [#9224] Quantified comparison predicates support array binds natively
+                case POSTGRES:
+                    if (comparator == IN)
+                        ctx.visit(field.eq(any(array())));
+                    else
+                        ctx.visit(field.ne(all(array())));
+
+                    break;
+
+                // The array is unnested in a subquery, as in QuantifiedSelectImpl
+                default:
+                    if (comparator == IN)
+                        ctx.visit(field.in(unnest()));
+                    else
+                        ctx.visit(field.notIn(unnest()));
+
+                    break;
+            }
+        }
         else if (values.size() > IN_LIMIT) {
             // [#798] Oracle and some other dialects can only hold 1000 values
             // in an IN (...) clause
@@ -195,6 +230,39 @@ final class InCondition<T> extends AbstractCondition {
         }
     }
 
+    private final boolean arrayBinding(Context<?> ctx) {
+        if (ctx.paramType() != INDEXED
+                || !TRUE.equals(ctx.settings().isInListArrayBinding())
+                || !SUPPORT_ARRAY_BINDING.contains(ctx.dialect()))
+            return false;
+
+        DataType<T> type = field.getDataType();
+        if (type.isArray() || type.isBinary() || type.isEnum() || type.isUDT() || !(type.getConverter() instanceof IdentityConverter))
+            return false;
+
+        for (Field<?> value : values)
+            if (!(value instanceof Param) || ((Param<?>) value).isInline())
+                return false;
+
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private final Field<T[]> array() {
+        DataType<T> type = field.getDataType();
+        T[] array = (T[]) Array.newInstance(type.getType(), values.size());
+
+        for (int i = 0; i < array.length; i++)
+            array[i] = type.convert(((Param<?>) values.get(i)).getValue());
+
+        return DSL.val(array, type.getArrayDataType());
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private final Select<? extends Record1<T>> unnest() {
+        return (Select) selectFrom(table(array()));
+    }
+
     static <T> List<T> padded(Context<?> ctx, List<T> list) {
         return ctx.paramType() == INDEXED && TRUE.equals(ctx.settings().isInListPadding())
             ? new PaddedList<>(list, REQUIRES_IN_LIMIT.contains(ctx.dialect())
@@ -56,6 +56,7 @@ import static org.jooq.SQLDialect.MARIADB;
 import static org.jooq.SQLDialect.MYSQL;
 // ...
 // ...
+import static org.jooq.conf.SettingsTools.executePreparedStatements;
 import static org.jooq.impl.DSL.constraint;
 import static org.jooq.impl.DSL.dual;
 import static org.jooq.impl.DSL.falseCondition;
@@ -82,6 +83,7 @@ import static org.jooq.impl.QueryPartListView.wrap;
 import static org.jooq.impl.Tools.EMPTY_FIELD;
 import static org.jooq.impl.Tools.aliasedFields;
 import static org.jooq.impl.Tools.fieldNameStrings;
+import static org.jooq.impl.Tools.maxBindValues;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_CONSTRAINT_REFERENCE;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_INSERT_SELECT;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_INSERT_SELECT_WITHOUT_INSERT_COLUMN_LIST;
@@ -109,6 +111,7 @@ import org.jooq.MergeOnConditionStep;
 import org.jooq.Name;
 import org.jooq.Operator;
 // ...
+import org.jooq.Query;
 import org.jooq.QueryPart;
 import org.jooq.Record;
 import org.jooq.SQLDialect;
@@ -167,6 +170,76 @@ final class InsertQueryImpl<R extends Record> extends AbstractStoreQuery<R> impl
         return select;
     }
 
+    /**
+     * Whether this is a plain <code>INSERT .. VALUES</code> statement, whose
+     * rows can be split across several statements, or extended by further
+     * rows, without changing its semantics.
+     */
+    final boolean isPlainValues() {
+        return with == null
+            && select == null
+            && !defaultValues
+            && !onDuplicateKeyUpdate
+            && !onDuplicateKeyIgnore
+            && returning.isEmpty();
+    }
+
+    @Override
+    final List<? extends Query> chunks() {
+        Configuration c = configuration();
+
+        if (!TRUE.equals(Tools.settings(c).isSplitStatementsAtBindValueLimit())
+                || !executePreparedStatements(Tools.settings(c))
+                || !isPlainValues()
+                || insertMaps.rows <= 1)
+            return null;
+
+        int limit = maxBindValues(c);
+        if (limit == Integer.MAX_VALUE)
+            return null;
+
+        // Count the bind values of each row, as rows may contain expressions
+        ParamCollector collector = new ParamCollector(c, false);
+        int[] binds = new int[insertMaps.rows];
+        List<List<Field<?>>> rows = new ArrayList<>(insertMaps.rows);
+
+        for (int r = 0; r < insertMaps.rows; r++) {
+            List<Field<?>> row = new ArrayList<>(insertMaps.values.size());
+            int before = collector.resultList.size();
+
+            for (List<Field<?>> column : insertMaps.values.values()) {
+                row.add(column.get(r));
+                collector.visit(column.get(r));
+            }
+
+            rows.add(row);
+            binds[r] = collector.resultList.size() - before;
+        }
+
+        if (collector.resultList.size() <= limit)
+            return null;
+
+        List<InsertQueryImpl<R>> result = new ArrayList<>();
+        InsertQueryImpl<R> chunk = null;
+        int chunkBinds = 0;
+
+        for (int r = 0; r < rows.size(); r++) {
+            if (chunk == null || chunkBinds + binds[r] > limit) {
+                chunk = new InsertQueryImpl<>(c, null, table());
+                chunk.insertMaps.addFields(insertMaps.fields());
+                chunkBinds = 0;
+                result.add(chunk);
+            }
+            else
+                chunk.insertMaps.newRecord();
+
+            chunk.insertMaps.set(rows.get(r));
+            chunkBinds += binds[r];
+        }
+
+        return result;
+    }
+
     @Override
     public final void addRecord(R record) {
         newRecord();
@@ -49,6 +49,7 @@ import static org.jooq.impl.ConstraintType.PRIMARY_KEY;
 import static org.jooq.impl.DSL.name;
 import static org.jooq.impl.DSL.schema;
 import static org.jooq.impl.SQLDataType.BIGINT;
+import static org.jooq.impl.Tools.EMPTY_CATALOG;
 import static org.jooq.impl.Tools.EMPTY_FIELD;
 import static org.jooq.impl.Tools.dataTypes;
 import static org.jooq.impl.Tools.intersect;
@@ -84,7 +85,6 @@ import org.jooq.ForeignKey;
 import org.jooq.Index;
 import org.jooq.Insert;
 import org.jooq.Merge;
-import org.jooq.Meta;
 import org.jooq.Name;
 import org.jooq.Named;
 import org.jooq.Nullability;
@@ -104,7 +104,6 @@ import org.jooq.UniqueKey;
 import org.jooq.Update;
 import org.jooq.conf.InterpreterNameLookupCaseSensitivity;
 import org.jooq.conf.InterpreterSearchSchema;
-import org.jooq.exception.DataAccessException;
 import org.jooq.exception.DataDefinitionException;
 import org.jooq.impl.ConstraintImpl.Action;
 import org.jooq.tools.Convert;
@@ -146,22 +145,15 @@ final class Interpreter {
         this.defaultSchema = new MutableSchema(NO_NAME, defaultCatalog);
     }
 
-    final Meta meta() {
+    final List<Catalog> catalogs() {
         applyDelayedForeignKeys();
 
-        return new AbstractMeta(configuration) {
-            private static final long serialVersionUID = 2052806256506059701L;
+        List<Catalog> result = new ArrayList<>();
 
-            @Override
-            final List<Catalog> getCatalogs0() throws DataAccessException {
-                List<Catalog> result = new ArrayList<>();
-
-                for (MutableCatalog catalog : catalogs.values())
-                    result.add(catalog.interpretedCatalog());
+        for (MutableCatalog catalog : catalogs.values())
+            result.add(catalog.interpretedCatalog());
 
-                return result;
-            }
-        };
+        return result;
     }
 
     // -------------------------------------------------------------------------
@@ -354,7 +346,7 @@ final class Interpreter {
         delayedForeignKeyDeclarations.add(new DelayedForeignKey(mt, impl));
     }
 
-    private final void applyDelayedForeignKeys() {
+    final void applyDelayedForeignKeys() {
         Iterator<DelayedForeignKey> it = delayedForeignKeyDeclarations.iterator();
 
         while (it.hasNext()) {
@@ -1352,10 +1344,13 @@ final class Interpreter {
         return find(m, (UnqualifiedName) named.getUnqualifiedName());
     }
 
+    @SuppressWarnings("unchecked")
     private static final <M extends MutableNamed> M find(List<? extends M> list, Named named) {
         UnqualifiedName n = (UnqualifiedName) named.getUnqualifiedName();
 
-        // TODO Avoid O(N) lookups. Use Maps instead
+        if (list instanceof MutableNamedList)
+            return ((MutableNamedList<M>) list).find(n);
+
         for (M m : list)
             if ((m = find(m, n)) != null)
                 return m;
@@ -1366,7 +1361,6 @@ final class Interpreter {
     private static final int indexOrFail(List<? extends MutableNamed> list, Named named) {
         int result = -1;
 
-        // TODO Avoid O(N) lookups. Use Maps instead
         for (int i = 0; i < list.size(); i++) {
             if (list.get(i).nameEquals((UnqualifiedName) named.getUnqualifiedName())) {
                 result = i;
@@ -1411,14 +1405,37 @@ final class Interpreter {
         return result;
     }
 
+    /**
+     * The lookup key of a name, according to {@link #caseSensitivity}.
+     * <p>
+     * Two names are considered equal if their lookup keys are equal.
+     */
+    private final String lookupKey(UnqualifiedName name) {
+        switch (caseSensitivity) {
+            case ALWAYS:
+                return name.last();
+
+            case WHEN_QUOTED:
+                return normaliseNameCase(configuration, name.last(), name.quoted() == QUOTED, locale);
+
+            case NEVER:
+                return name.last().toUpperCase(locale);
+
+            case DEFAULT:
+            default:
+                throw new IllegalStateException();
+        }
+    }
+
     // -------------------------------------------------------------------------
     // Data model
     // -------------------------------------------------------------------------
 
     private abstract class MutableNamed {
         private UnqualifiedName                      name;
-        private String                               upper;
+        private String                               key;
         private Comment                              comment;
+        final List<MutableNamedList<?>>              lists = new ArrayList<>(1);
 
         MutableNamed(UnqualifiedName name) {
             this(name, null);
@@ -1445,7 +1462,15 @@ final class Interpreter {
 
         void name(UnqualifiedName n) {
             this.name = n;
-            this.upper = name.last().toUpperCase(locale);
+            this.key = lookupKey(n);
+
+            // Renames invalidate the lookup indexes of the containing lists
+            for (MutableNamedList<?> list : lists)
+                list.index = null;
+        }
+
+        String key() {
+            return key;
         }
 
         Comment comment() {
@@ -1457,21 +1482,7 @@ final class Interpreter {
         }
 
         boolean nameEquals(UnqualifiedName other) {
-            switch (caseSensitivity) {
-                case ALWAYS:
-                    return name.last().equals(other.last());
-
-                case WHEN_QUOTED:
-                    return normaliseNameCase(configuration, name.last(), name.quoted() == QUOTED, locale).equals(
-                           normaliseNameCase(configuration, other.last(), other.quoted() == QUOTED, locale));
-
-                case NEVER:
-                    return upper.equalsIgnoreCase(other.last().toUpperCase(locale));
-
-                case DEFAULT:
-                default:
-                    throw new IllegalStateException();
-            }
+            return key.equals(lookupKey(other));
         }
 
         abstract MutableNamed parent();
@@ -2171,12 +2182,34 @@ final class Interpreter {
         }
     }
 
+    /**
+     * A list of {@link MutableNamed} objects with a lookup index by
+     * {@link MutableNamed#key()}.
+     * <p>
+     * The index maps each key to the first element in the list with that key.
+     * Appending elements maintains the index incrementally. Other structural
+     * modifications, as well as renames of contained elements, cause the index
+     * to be rebuilt lazily on the next lookup, at a cost that is comparable to
+     * that of the modification itself.
+     */
     private final class MutableNamedList<N extends MutableNamed> extends AbstractList<N> {
         private final List<N> delegate = new ArrayList<>();
+        private Map<String, N> index;
+
+        final N find(UnqualifiedName name) {
+            if (index == null) {
+                index = new HashMap<>();
+
+                for (N n : delegate)
+                    index.putIfAbsent(n.key(), n);
+            }
+
+            return index.get(lookupKey(name));
+        }
 
         @Override
-        public N get(int index) {
-            return delegate.get(index);
+        public N get(int i) {
+            return delegate.get(i);
         }
 
         @Override
@@ -2185,25 +2218,51 @@ final class Interpreter {
         }
 
         @Override
-        public N set(int index, N element) {
-            return delegate.set(index, element);
+        public N set(int i, N element) {
+            N replaced = delegate.set(i, element);
+            unregister(replaced);
+            element.lists.add(this);
+            index = null;
+            return replaced;
         }
 
         @Override
-        public void add(int index, N element) {
-            delegate.add(index, element);
+        public void add(int i, N element) {
+            delegate.add(i, element);
+            element.lists.add(this);
+
+            if (index != null)
+                if (i == delegate.size() - 1)
+                    index.putIfAbsent(element.key(), element);
+                else
+                    index = null;
         }
 
         @Override
-        public N remove(int index) {
-            N removed = delegate.remove(index);
+        public N remove(int i) {
+            N removed = delegate.remove(i);
+            unregister(removed);
+            index = null;
             removed.onDrop();
             return removed;
         }
+
+        /**
+         * Remove one registration of this list from an element by identity, as
+         * distinct lists may be equal by content.
+         */
+        private final void unregister(N element) {
+            for (int i = 0; i < element.lists.size(); i++) {
+                if (element.lists.get(i) == this) {
+                    element.lists.remove(i);
+                    return;
+                }
+            }
+        }
     }
 
     @Override
     public String toString() {
-        return meta().toString();
+        return CatalogMetaImpl.filterCatalogs(configuration, catalogs().toArray(EMPTY_CATALOG)).toString();
     }
 }
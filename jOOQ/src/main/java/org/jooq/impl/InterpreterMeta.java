@@ -0,0 +1,143 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import org.jooq.Catalog;
+import org.jooq.Configuration;
+import org.jooq.Meta;
+import org.jooq.Queries;
+import org.jooq.Query;
+import org.jooq.exception.DataAccessException;
+
+/**
+ * A {@link Meta} implementation that is backed by the state of an
+ * {@link Interpreter}.
+ * <p>
+ * Rather than exporting the interpreted schema to DDL and interpreting it again
+ * from scratch, {@link #apply(Queries)} interprets only the migration on top of
+ * the existing interpreter state. That state is owned by exactly one
+ * {@link InterpreterMeta} at a time. As long as the owner has not exposed any
+ * interpreted objects (which are live views on the mutable state), the state is
+ * handed over to the new {@link InterpreterMeta} instead of being copied. A
+ * meta whose state has been handed over, or which needs to keep its exposed
+ * state, restores its own state by replaying its query history when needed.
+ *
+ * @author Lukas Eder
+ */
+final class InterpreterMeta extends AbstractMeta {
+
+    private static final long       serialVersionUID = -4281412085367346185L;
+
+    private final InterpreterMeta   parent;
+    private final Query[]           queries;
+    private transient Interpreter   interpreter;
+    private transient boolean       exposed;
+
+    InterpreterMeta(Configuration configuration, Interpreter interpreter, Query[] queries) {
+        this(configuration, interpreter, null, queries);
+    }
+
+    private InterpreterMeta(Configuration configuration, Interpreter interpreter, InterpreterMeta parent, Query[] queries) {
+        super(configuration);
+
+        this.parent = parent;
+        this.queries = queries;
+        this.interpreter = interpreter;
+    }
+
+    @Override
+    final synchronized List<Catalog> getCatalogs0() throws DataAccessException {
+        if (interpreter == null)
+            interpreter = replay();
+
+        exposed = true;
+        return interpreter.catalogs();
+    }
+
+    @Override
+    public final Meta apply(Queries migration) {
+        Interpreter i = handover();
+        Query[] q = migration.queries();
+
+        for (Query query : q)
+            i.accept(query);
+
+        return new InterpreterMeta(configuration(), i, this, q);
+    }
+
+    /**
+     * Take ownership of this meta's interpreter state, or produce a private
+     * copy of it if the state cannot be handed over.
+     */
+    private final synchronized Interpreter handover() {
+        Interpreter result;
+
+        if (interpreter != null && !exposed) {
+            result = interpreter;
+            interpreter = null;
+        }
+        else
+            result = replay();
+
+        // Whatever this meta would have seen must also be seen by its successor
+        result.applyDelayedForeignKeys();
+        return result;
+    }
+
+    private final Interpreter replay() {
+        Deque<InterpreterMeta> history = new ArrayDeque<>();
+
+        for (InterpreterMeta m = this; m != null; m = m.parent)
+            history.push(m);
+
+        Interpreter result = new Interpreter(configuration());
+
+        for (InterpreterMeta m : history) {
+            for (Query query : m.queries)
+                result.accept(query);
+
+            result.applyDelayedForeignKeys();
+        }
+
+        return result;
+    }
+}
@@ -37,9 +37,12 @@
  */
 package org.jooq.impl;
 
+import static org.jooq.impl.Tools.EMPTY_QUERY;
 import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
 
 import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 
 import org.jooq.Configuration;
@@ -85,25 +88,31 @@ final class InterpreterMetaProvider implements MetaProvider {
         final Interpreter interpreter = new Interpreter(configuration);
         Configuration localConfiguration = configuration.derive();
         DSLContext ctx = DSL.using(localConfiguration);
+        List<Query> history = new ArrayList<>();
 
         if (sources != null)
             for (Source source : sources)
-                loadSource(ctx, source, interpreter);
+                loadSource(ctx, source, interpreter, history);
         else
             for (Query query : queries)
-                interpreter.accept(query);
+                accept(interpreter, history, query);
 
-        return interpreter.meta();
+        return new InterpreterMeta(configuration, interpreter, history.toArray(EMPTY_QUERY));
     }
 
-    private final void loadSource(DSLContext ctx, Source source, Interpreter interpreter) {
+    private final void accept(Interpreter interpreter, List<Query> history, Query query) {
+        interpreter.accept(query);
+        history.add(query);
+    }
+
+    private final void loadSource(DSLContext ctx, Source source, Interpreter interpreter, List<Query> history) {
         Reader reader = null;
 
         try {
             Scanner s = new Scanner(reader = source.reader()).useDelimiter("\\A");
 
             for (Query query : ctx.parser().parse(s.hasNext() ? s.next() : ""))
-                interpreter.accept(query);
+                accept(interpreter, history, query);
         }
         catch (ParserException e) {
             log.error("An exception occurred while parsing a DDL script: " + e.getMessage()
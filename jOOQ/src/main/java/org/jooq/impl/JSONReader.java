@@ -45,8 +45,10 @@ import static org.jooq.tools.StringUtils.defaultIfBlank;
 
 import java.io.Reader;
 import java.io.StringReader;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -59,7 +61,7 @@ import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.Result;
-import org.jooq.tools.json.ContainerFactory;
+import org.jooq.tools.json.ContentHandler;
 import org.jooq.tools.json.JSONParser;
 
 /**
@@ -81,106 +83,204 @@ final class JSONReader {
         return read(new StringReader(string));
     }
 
-    @SuppressWarnings("rawtypes")
     final Result<Record> read(final Reader reader) {
         try {
-            Object root = new JSONParser().parse(reader, new ContainerFactory() {
-                @Override
-                public Map createObjectContainer() {
-                    return new LinkedHashMap();
-                }
+            RecordHandler handler = new RecordHandler();
+            new JSONParser().parse(reader, handler);
+            return handler.result();
+        }
+        catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
 
-                @Override
-                public List createArrayContainer() {
-                    return new ArrayList();
-                }
-            });
+    /**
+     * A {@link ContentHandler} that builds records while the JSON document is
+     * being parsed.
+     * <p>
+     * Only the values inside of a single record are materialised as
+     * {@link Map} or {@link List} containers. Each record is transformed into
+     * a {@link Record} as soon as it has been parsed, so that the document's
+     * list of records never needs to be held in memory as a whole. Records
+     * preceding a <code>"fields"</code> entry in the root object are buffered
+     * until the document has been parsed completely.
+     */
+    @SuppressWarnings("rawtypes")
+    private final class RecordHandler implements ContentHandler {
+        private final Deque<Object> containers = new ArrayDeque<>();
+        private final Deque<String> keys       = new ArrayDeque<>();
+        private final List<Field<?>> f         = new ArrayList<>();
+        private boolean              rootObject;
+        private boolean              fields;
+        private List<Object>         pending;
+        private Result<Record>       result;
+        private Map<String, Integer> fieldIndexes;
 
-            List<Field<?>> f = new ArrayList<>();
+        final Result<Record> result() {
+            return result;
+        }
 
-            List<?> records;
-            Result<Record> result = null;
-            Map<String, Integer> fieldIndexes = null;
+        @Override
+        public void startJSON() {}
 
-            if (root instanceof Map) {
-                Map<String, Object> o1 = (Map<String, Object>) root;
-                List<Map<String, String>> fields = (List<Map<String, String>>) o1.get("fields");
+        @Override
+        public void endJSON() {
+            if (pending != null)
+                for (Object o : pending)
+                    record(o);
+        }
 
-                if (fields != null) {
-                    for (Map<String, String> field : fields) {
-                        String catalog = field.get("catalog");
-                        String schema = field.get("schema");
-                        String table = field.get("table");
-                        String name = field.get("name");
-                        String type = field.get("type");
+        @Override
+        public boolean startObject() {
+            if (containers.isEmpty())
+                rootObject = true;
 
-                        f.add(field(name(catalog, schema, table, name), getDataType(ctx.dialect(), defaultIfBlank(type, "VARCHAR"))));
-                    }
+            containers.push(new LinkedHashMap());
+            return true;
+        }
 
-                    result = ctx.newResult(f);
-                }
+        @Override
+        public boolean endObject() {
+            end();
+            return true;
+        }
 
-                records = (List<?>) o1.get("records");
-            }
-            else {
-                records = (List<?>) root;
-            }
+        @Override
+        public boolean startArray() {
+            containers.push(new ArrayList());
+            return true;
+        }
+
+        @Override
+        public boolean endArray() {
+            end();
+            return true;
+        }
 
-            for (Object o3 : records) {
-                if (o3 instanceof Map) {
-                    Map<String, Object> record = (Map<String, Object>) o3;
-                    String[] values = new String[record.size()];
+        @Override
+        public boolean startObjectEntry(String key) {
+            keys.push(key);
+            return true;
+        }
 
-                    if (result == null) {
-                        if (f.isEmpty())
-                            for (String name : record.keySet())
-                                f.add(field(name(name), VARCHAR));
+        @Override
+        public boolean endObjectEntry() {
+            String key = keys.pop();
 
-                        result = ctx.newResult(f);
-                    }
+            if (containers.size() == 1 && "fields".equals(key))
+                fields((List<Map<String, String>>) ((Map) containers.peek()).get(key));
 
-                    if (fieldIndexes == null) {
-                        fieldIndexes = new HashMap<>();
+            return true;
+        }
 
-                        int i = 0;
-                        for (String name : record.keySet())
-                            fieldIndexes.put(name, i++);
-                    }
+        @Override
+        public boolean primitive(Object value) {
+            value(value);
+            return true;
+        }
+
+        private final void end() {
+            Object container = containers.pop();
+
+            if (isRecord()) {
+                if (rootObject && !fields) {
+                    if (pending == null)
+                        pending = new ArrayList<>();
+
+                    pending.add(container);
+                }
+                else
+                    record(container);
+            }
+            else if (!containers.isEmpty())
+                value(container);
+        }
+
+        /**
+         * Whether the top of the stack is the array containing the records.
+         */
+        private final boolean isRecord() {
+            return rootObject
+                ? containers.size() == 2 && "records".equals(keys.peek()) && keys.size() == 1
+                : containers.size() == 1;
+        }
+
+        private final void value(Object value) {
+            Object container = containers.peek();
+
+            if (container instanceof Map)
+                ((Map) container).put(keys.peek(), value);
+            else if (container instanceof List)
+                ((List) container).add(value);
+        }
 
-                    for (Entry<String, Object> entry : record.entrySet())
-                        values[fieldIndexes.get(entry.getKey())] = "" + entry.getValue();
+        private final void fields(List<Map<String, String>> list) {
+            fields = true;
 
-                    Record r = ctx.newRecord(f);
-                    r.from(values);
-                    result.add(r);
+            if (list != null) {
+                for (Map<String, String> field : list) {
+                    String catalog = field.get("catalog");
+                    String schema = field.get("schema");
+                    String table = field.get("table");
+                    String name = field.get("name");
+                    String type = field.get("type");
+
+                    f.add(field(name(catalog, schema, table, name), getDataType(ctx.dialect(), defaultIfBlank(type, "VARCHAR"))));
                 }
-                else {
-                    List record = (List) o3;
 
-                    if (result == null) {
-                        if (f.isEmpty())
-                            f.addAll(Arrays.asList(Tools.fields(record.size())));
+                result = ctx.newResult(f);
+            }
+        }
 
-                        result = ctx.newResult(f);
-                    }
+        private final void record(Object o3) {
+            if (o3 instanceof Map) {
+                Map<String, Object> record = (Map<String, Object>) o3;
+                String[] values = new String[record.size()];
 
-                    Record r = ctx.newRecord(f);
+                if (result == null) {
+                    if (f.isEmpty())
+                        for (String name : record.keySet())
+                            f.add(field(name(name), VARCHAR));
+
+                    result = ctx.newResult(f);
+                }
 
-                    // [#8829] LoaderImpl expects binary data to be encoded in base64,
-                    //         not according to org.jooq.tools.Convert
-                    for (int i = 0; i < f.size(); i++)
-                        if (f.get(i).getType() == byte[].class && record.get(i) instanceof String)
-                            record.set(i, DatatypeConverter.parseBase64Binary((String) record.get(i)));
+                if (fieldIndexes == null) {
+                    fieldIndexes = new HashMap<>();
 
-                    r.from(record);
-                    result.add(r);
+                    int i = 0;
+                    for (String name : record.keySet())
+                        fieldIndexes.put(name, i++);
                 }
+
+                for (Entry<String, Object> entry : record.entrySet())
+                    values[fieldIndexes.get(entry.getKey())] = "" + entry.getValue();
+
+                Record r = ctx.newRecord(f);
+                r.from(values);
+                result.add(r);
             }
+            else {
+                List record = (List) o3;
 
-            return result;
-        }
-        catch (Exception e) {
-            throw new RuntimeException(e);
+                if (result == null) {
+                    if (f.isEmpty())
+                        f.addAll(Arrays.asList(Tools.fields(record.size())));
+
+                    result = ctx.newResult(f);
+                }
+
+                Record r = ctx.newRecord(f);
+
+                // [#8829] LoaderImpl expects binary data to be encoded in base64,
+                //         not according to org.jooq.tools.Convert
+                for (int i = 0; i < f.size(); i++)
+                    if (f.get(i).getType() == byte[].class && record.get(i) instanceof String)
+                        record.set(i, DatatypeConverter.parseBase64Binary((String) record.get(i)));
+
+                r.from(record);
+                result.add(r);
+            }
         }
     }
 }
@@ -0,0 +1,191 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.jsonArray;
+import static org.jooq.impl.DSL.jsonArrayAgg;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.Names.N_MULTISET;
+import static org.jooq.impl.Tools.fieldNames;
+import static org.jooq.impl.Tools.visitSubquery;
+
+import java.sql.SQLException;
+
+import org.jooq.Binding;
+import org.jooq.BindingGetResultSetContext;
+import org.jooq.BindingGetSQLInputContext;
+import org.jooq.BindingGetStatementContext;
+import org.jooq.BindingRegisterContext;
+import org.jooq.BindingSQLContext;
+import org.jooq.BindingSetSQLOutputContext;
+import org.jooq.BindingSetStatementContext;
+import org.jooq.Configuration;
+import org.jooq.Context;
+import org.jooq.Converter;
+import org.jooq.JSON;
+import org.jooq.JSONFormat;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.Select;
+import org.jooq.Table;
+
+/**
+ * A <code>MULTISET</code> nested collection, emulated using SQL/JSON
+ * aggregation.
+ *
+ * @author Lukas Eder
+ */
+final class Multiset<R extends Record> extends AbstractField<Result<R>> {
+
+    private static final long serialVersionUID = -7625323318540932543L;
+    final Select<R>           select;
+
+    Multiset(Select<R> select) {
+        super(N_MULTISET, SQLDataType.JSON.asConvertedDataType(new MultisetBinding<R>(new MultisetConverter<R>(select))));
+
+        this.select = select;
+    }
+
+    @Override
+    public final void accept(Context<?> ctx) {
+        Table<R> t = select.asTable(name("t"), fieldNames(select.getSelect().size()));
+
+        visitSubquery(ctx, select(DSL.coalesce(jsonArrayAgg(jsonArray(t.fields()).nullOnNull()), jsonArray())).from(t), true);
+    }
+
+    /**
+     * A binding that reads the JSON representation of a <code>MULTISET</code>
+     * and attaches the nested records to the fetching {@link Configuration}.
+     */
+    static final class MultisetBinding<R extends Record> implements Binding<JSON, Result<R>> {
+
+        private static final long          serialVersionUID = -2190958447271418893L;
+        private final Binding<?, JSON>     delegate;
+        private final MultisetConverter<R> converter;
+
+        MultisetBinding(MultisetConverter<R> converter) {
+            this.delegate = SQLDataType.JSON.getBinding();
+            this.converter = converter;
+        }
+
+        @Override
+        public final Converter<JSON, Result<R>> converter() {
+            return converter;
+        }
+
+        @Override
+        public final void sql(BindingSQLContext<Result<R>> ctx) throws SQLException {
+            delegate.sql(ctx.convert(converter));
+        }
+
+        @Override
+        public final void register(BindingRegisterContext<Result<R>> ctx) throws SQLException {
+            delegate.register(ctx.convert(converter));
+        }
+
+        @Override
+        public final void set(BindingSetStatementContext<Result<R>> ctx) throws SQLException {
+            delegate.set(ctx.convert(converter));
+        }
+
+        @Override
+        public final void set(BindingSetSQLOutputContext<Result<R>> ctx) throws SQLException {
+            delegate.set(ctx.convert(converter));
+        }
+
+        @Override
+        public final void get(BindingGetResultSetContext<Result<R>> ctx) throws SQLException {
+            delegate.get(ctx.convert(converter.attach(ctx.configuration())));
+        }
+
+        @Override
+        public final void get(BindingGetStatementContext<Result<R>> ctx) throws SQLException {
+            delegate.get(ctx.convert(converter.attach(ctx.configuration())));
+        }
+
+        @Override
+        public final void get(BindingGetSQLInputContext<Result<R>> ctx) throws SQLException {
+            delegate.get(ctx.convert(converter.attach(ctx.configuration())));
+        }
+    }
+
+    /**
+     * A converter between the JSON representation of a <code>MULTISET</code>
+     * and its {@link Result}.
+     */
+    static final class MultisetConverter<R extends Record> extends AbstractConverter<JSON, Result<R>> {
+
+        private static final long serialVersionUID = 4296419487366454458L;
+        final AbstractRow         row;
+        final Class<R>            recordType;
+        final Configuration       configuration;
+
+        @SuppressWarnings("unchecked")
+        MultisetConverter(Select<R> select) {
+            this(Tools.row0(select.getSelect()), (Class<R>) select.getRecordType(), null);
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private MultisetConverter(AbstractRow row, Class<R> recordType, Configuration configuration) {
+            super(JSON.class, (Class) Result.class);
+
+            this.row = row;
+            this.recordType = recordType;
+            this.configuration = configuration;
+        }
+
+        /**
+         * A copy of this converter producing records attached to a
+         * {@link Configuration}.
+         */
+        final MultisetConverter<R> attach(Configuration c) {
+            return new MultisetConverter<>(row, recordType, c);
+        }
+
+        @Override
+        public final Result<R> from(JSON json) {
+            return json == null ? null : new MultisetJSONParser(configuration, json.data()).read(row, recordType);
+        }
+
+        @Override
+        public final JSON to(Result<R> result) {
+            return result == null ? null : JSON.valueOf(result.formatJSON(JSONFormat.DEFAULT_FOR_RECORDS));
+        }
+    }
+}
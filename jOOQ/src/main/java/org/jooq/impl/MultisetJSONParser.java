@@ -0,0 +1,284 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.sql.Timestamp;
+import java.util.function.Supplier;
+
+import org.jooq.Configuration;
+import org.jooq.Converter;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.exception.DataTypeException;
+import org.jooq.util.postgres.PostgresUtils;
+
+/**
+ * A parser for the JSON representation of a {@link Multiset}.
+ * <p>
+ * The expected input is an array of records, each record being an array of
+ * values in the order of the nested collection's fields. Records are created
+ * directly from the input using the known {@link Field} types, without any
+ * intermediate JSON object model. Scalar values are passed on to
+ * {@link org.jooq.DataType#convert(Object)} in their textual form, which
+ * preserves the precision of numeric values. Nested collections are parsed
+ * recursively, whether they are embedded as JSON arrays, or as JSON strings
+ * containing arrays (in dialects without a native JSON type).
+ *
+ * @author Lukas Eder
+ */
+final class MultisetJSONParser {
+
+    private final Configuration configuration;
+    private final String        json;
+    private int                 position;
+
+    MultisetJSONParser(Configuration configuration, String json) {
+        this.configuration = configuration;
+        this.json = json;
+    }
+
+    final <R extends Record> Result<R> read(AbstractRow row, Class<R> recordType) {
+        Result<R> result = result(row, recordType);
+
+        whitespace();
+        if (position < json.length())
+            throw exception("Unexpected content");
+
+        return result;
+    }
+
+    private final <R extends Record> Result<R> result(AbstractRow row, Class<R> recordType) {
+        Supplier<R> factory = Tools.recordFactory(recordType, row);
+        Field<?>[] fields = row.fields();
+        ResultImpl<R> result = new ResultImpl<>(configuration, row);
+
+        expect('[');
+        if (peek(']'))
+            return result;
+
+        do {
+            result.add(record(fields, factory));
+        }
+        while (peek(','));
+        expect(']');
+
+        return result;
+    }
+
+    private final <R extends Record> R record(Field<?>[] fields, Supplier<R> factory) {
+        return Tools.newRecord(true, factory, configuration).operate(record -> {
+            AbstractRecord r = (AbstractRecord) record;
+
+            expect('[');
+            for (int i = 0; i < fields.length; i++) {
+                if (i > 0)
+                    expect(',');
+
+                Object value = value(fields[i]);
+                r.values[i] = value;
+                r.originals[i] = value;
+            }
+            expect(']');
+
+            return record;
+        });
+    }
+
+    private final Object value(Field<?> field) {
+        whitespace();
+
+        if (position >= json.length())
+            throw exception("Value expected");
+
+        Converter<?, ?> converter = field.getConverter();
+        char c = json.charAt(position);
+
+        if (converter instanceof Multiset.MultisetConverter) {
+            Multiset.MultisetConverter<?> m = (Multiset.MultisetConverter<?>) converter;
+
+            if (c == '[')
+                return result(m.row, m.recordType);
+            else if (c == '"')
+                return new MultisetJSONParser(configuration, string()).read(m.row, m.recordType);
+        }
+
+        if (c == '"')
+            return string(field, string());
+
+        // Nested JSON documents are passed on as JSON text
+        else if (c == '[' || c == '{')
+            return field.getDataType().convert(json.substring(skip(), position));
+
+        String literal = literal();
+        return "null".equals(literal) ? null : field.getDataType().convert(literal);
+    }
+
+    private final Object string(Field<?> field, String string) {
+        Class<?> type = field.getType();
+
+        // PostgreSQL encodes binary data as hex strings
+        if (type == byte[].class && string.startsWith("\\x"))
+            return PostgresUtils.toBytes(string);
+
+        // ISO 8601 timestamps are not supported by Timestamp.valueOf()
+        else if (type == Timestamp.class && string.length() > 10 && string.charAt(10) == 'T')
+            return field.getDataType().convert(string.replace('T', ' '));
+        else
+            return field.getDataType().convert(string);
+    }
+
+    private final String string() {
+        expect('"');
+
+        int start = position;
+        StringBuilder sb = null;
+
+        for (;;) {
+            if (position >= json.length())
+                throw exception("Unterminated string");
+
+            char c = json.charAt(position);
+
+            if (c == '"') {
+                String result = sb == null ? json.substring(start, position) : sb.toString();
+                position++;
+                return result;
+            }
+            else if (c == '\\') {
+                if (sb == null)
+                    sb = new StringBuilder().append(json, start, position);
+
+                if (++position >= json.length())
+                    throw exception("Unterminated string");
+
+                switch (c = json.charAt(position)) {
+                    case 'b': sb.append('\b'); break;
+                    case 'f': sb.append('\f'); break;
+                    case 'n': sb.append('\n'); break;
+                    case 'r': sb.append('\r'); break;
+                    case 't': sb.append('\t'); break;
+                    case 'u':
+                        if (position + 4 >= json.length())
+                            throw exception("Illegal unicode escape");
+
+                        sb.append((char) Integer.parseInt(json.substring(position + 1, position + 5), 16));
+                        position += 4;
+                        break;
+                    default:  sb.append(c); break;
+                }
+            }
+            else if (sb != null)
+                sb.append(c);
+
+            position++;
+        }
+    }
+
+    private final String literal() {
+        int start = position;
+
+        while (position < json.length()) {
+            char c = json.charAt(position);
+
+            if (c == ',' || c == ']' || c == '}' || Character.isWhitespace(c))
+                break;
+
+            position++;
+        }
+
+        if (start == position)
+            throw exception("Value expected");
+
+        return json.substring(start, position);
+    }
+
+    /**
+     * Skip a nested JSON array or object, returning its start position.
+     */
+    private final int skip() {
+        int start = position;
+        int depth = 0;
+
+        do {
+            if (position >= json.length())
+                throw exception("Unterminated array or object");
+
+            char c = json.charAt(position);
+
+            if (c == '"') {
+                string();
+                continue;
+            }
+            else if (c == '[' || c == '{')
+                depth++;
+            else if (c == ']' || c == '}')
+                depth--;
+
+            position++;
+        }
+        while (depth > 0);
+
+        return start;
+    }
+
+    private final boolean peek(char c) {
+        whitespace();
+
+        if (position < json.length() && json.charAt(position) == c) {
+            position++;
+            return true;
+        }
+
+        return false;
+    }
+
+    private final void expect(char c) {
+        if (!peek(c))
+            throw exception("Expected '" + c + "'");
+    }
+
+    private final void whitespace() {
+        while (position < json.length() && Character.isWhitespace(json.charAt(position)))
+            position++;
+    }
+
+    private final DataTypeException exception(String message) {
+        return new DataTypeException(message + " at position " + position + " in MULTISET content: " + json);
+    }
+}
@@ -212,6 +212,7 @@ final class Names {
     static final Name      N_MOD                    = unquotedName("mod");
     static final Name      N_MODE                   = unquotedName("mode");
     static final Name      N_MUL                    = unquotedName("mul");
+    static final Name      N_MULTISET               = unquotedName("multiset");
     static final Name      N_NANO100_BETWEEN        = unquotedName("nano100_between");
     static final Name      N_NEXTVAL                = unquotedName("nextval");
     static final Name      N_NOT                    = unquotedName("not");
@@ -66,11 +66,17 @@ final class ParamCollector extends AbstractBindContext {
     final List<Entry<String, Param<?>>> resultList = new ArrayList<>();
 
     private final boolean               includeInlinedParams;
+    private final boolean               deduplicate;
 
     ParamCollector(Configuration configuration, boolean includeInlinedParams) {
+        this(configuration, includeInlinedParams, false);
+    }
+
+    ParamCollector(Configuration configuration, boolean includeInlinedParams, boolean deduplicate) {
         super(configuration, null);
 
         this.includeInlinedParams = includeInlinedParams;
+        this.deduplicate = deduplicate;
     }
 
     @Override
@@ -80,7 +86,7 @@ final class ParamCollector extends AbstractBindContext {
 
             // [#3131] Inlined parameters should not be returned in some contexts
             if (includeInlinedParams || !param.isInline()) {
-                String i = String.valueOf(nextIndex());
+                String i = String.valueOf(nextIndex(param, deduplicate));
                 String paramName = param.getParamName();
 
                 if (StringUtils.isBlank(paramName)) {
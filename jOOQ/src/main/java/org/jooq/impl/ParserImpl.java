@@ -79,12 +79,15 @@ import static org.jooq.impl.Tools.EMPTY_QUERYPART;
 import static org.jooq.impl.Tools.EMPTY_ROW;
 import static org.jooq.impl.Tools.EMPTY_SORTFIELD;
 import static org.jooq.impl.Tools.EMPTY_TABLE;
+import static org.jooq.impl.Tools.SUPPORTS_HASH_COMMENT_SYNTAX;
 import static org.jooq.impl.Tools.aliased;
 import static org.jooq.impl.Tools.normaliseNameCase;
 import static org.jooq.impl.XMLPassingMechanism.BY_REF;
 import static org.jooq.impl.XMLPassingMechanism.BY_VALUE;
 
 import java.io.ByteArrayOutputStream;
+import java.io.Reader;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.Date;
@@ -100,12 +103,16 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.jooq.AggregateFilterStep;
 import org.jooq.AggregateFunction;
@@ -352,7 +359,71 @@ final class ParserImpl implements Parser {
 
     @Override
     public final Queries parse(String sql, Object... bindings) {
-        return ctx(sql, bindings).parse();
+        if (bindings.length == 0 && meta == null && TRUE.equals(dsl.settings().isParseScriptsInParallel()))
+            return parseInParallel(sql);
+        else
+            return ctx(sql, bindings).parse();
+    }
+
+    final Queries parseSequentially(String sql) {
+        return ctx(sql).parse();
+    }
+
+    /**
+     * Split a script into statements and parse them in parallel.
+     */
+    private final Queries parseInParallel(String sql) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        if (processors < 2)
+            return parseSequentially(sql);
+
+        List<String> statements = ParserStream.split(dsl.configuration(), this, new StringReader(sql));
+        Integer threshold = dsl.settings().getParseScriptsInParallelThreshold();
+
+        if (statements.size() < (threshold == null ? 1000 : threshold))
+            return parseSequentially(sql);
+
+        Executor executor = dsl.configuration().executorProvider().provide();
+        int chunks = processors * 4;
+        int chunkSize = Math.max(16, (statements.size() + chunks - 1) / chunks);
+        List<CompletableFuture<List<Query>>> futures = new ArrayList<>();
+
+        for (int i = 0; i < statements.size(); i += chunkSize) {
+            List<String> chunk = statements.subList(i, Math.min(i + chunkSize, statements.size()));
+
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                List<Query> result = new ArrayList<>();
+
+                for (String statement : chunk)
+                    for (Query query : parseSequentially(statement))
+                        result.add(query);
+
+                return result;
+            }, executor));
+        }
+
+        List<Query> result = new ArrayList<>();
+
+        try {
+            for (CompletableFuture<List<Query>> future : futures)
+                result.addAll(future.join());
+        }
+        catch (CompletionException e) {
+
+            // Statements may be incomplete when procedural blocks contain the
+            // delimiter, in case of which the lexer's split isn't reliable.
+            if (e.getCause() instanceof ParserException)
+                return parseSequentially(sql);
+            else
+                throw e;
+        }
+
+        return dsl.queries(result);
+    }
+
+    @Override
+    public final Stream<Query> parseStream(Reader reader) {
+        return ParserStream.stream(dsl.configuration(), this, reader);
     }
 
     @Override
@@ -471,8 +542,6 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
 
 
 
-    static final Set<SQLDialect>         SUPPORTS_HASH_COMMENT_SYNTAX  = SQLDialect.supportedBy(MARIADB, MYSQL);
-
     final Queries parse() {
         List<Query> result = new ArrayList<>();
         Query query;
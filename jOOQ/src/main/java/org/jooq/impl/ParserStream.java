@@ -0,0 +1,559 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Boolean.FALSE;
+import static org.jooq.impl.Tools.SUPPORTS_HASH_COMMENT_SYNTAX;
+
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.regex.Pattern;
+import java.util.stream.StreamSupport;
+
+import org.jooq.Configuration;
+import org.jooq.Parser;
+import org.jooq.Query;
+import org.jooq.conf.Settings;
+import org.jooq.exception.IOException;
+
+/**
+ * A lazy, streaming {@link Parser#parseStream(Reader)} implementation.
+ * <p>
+ * A lightweight lexer splits the script into statements at delimiters outside
+ * of string literals (including backslash escapes in <code>E'..'</code> and
+ * <code>N'..'</code> literals), quoted identifiers, and comments, honouring
+ * {@link Settings#getDelimiter()}, <code>DELIMITER</code> and <code>GO</code>
+ * commands, and {@link Settings#isParseIgnoreComments()}. Each statement is
+ * then parsed individually. Procedural blocks containing the delimiter are
+ * supported by accumulating statements as long as the parser fails at the end
+ * of its input, if the statement contains a <code>BEGIN</code> or
+ * <code>DECLARE</code> keyword. Only the current statement is held in memory.
+ *
+ * @author Lukas Eder
+ */
+final class ParserStream implements Iterator<Query> {
+
+    private static final int     BUFFER_SIZE = 8192;
+
+    /**
+     * Keywords that may start a procedural block containing the delimiter.
+     */
+    private static final Pattern BLOCK       = Pattern.compile("(?i:\\b(?:BEGIN|DECLARE)\\b)");
+
+    private final ParserImpl    parser;
+    private final Reader        reader;
+    private final boolean       hashComments;
+    private final boolean       checkIgnoreComment;
+    private final String        ignoreCommentStart;
+    private final String        ignoreCommentStop;
+    private final Deque<Query>  queries;
+    private final StringBuilder statement;
+
+    private char[]              buffer;
+    private int                 position;
+    private int                 limit;
+    private boolean             eof;
+    private String              delimiter;
+
+    /**
+     * The delimiter that terminated the last statement, or <code>null</code>
+     * if the statement was terminated by a <code>GO</code> command or by the
+     * end of the script.
+     */
+    private String              terminator;
+
+    private ParserStream(Configuration configuration, ParserImpl parser, Reader reader) {
+        Settings settings = configuration.settings();
+
+        this.parser = parser;
+        this.reader = reader;
+        this.hashComments = SUPPORTS_HASH_COMMENT_SYNTAX.contains(settings.getParseDialect() != null ? settings.getParseDialect() : configuration.dialect());
+        this.checkIgnoreComment = !FALSE.equals(settings.isParseIgnoreComments());
+        this.ignoreCommentStart = settings.getParseIgnoreCommentStart();
+        this.ignoreCommentStop = settings.getParseIgnoreCommentStop();
+        this.queries = new ArrayDeque<>();
+        this.statement = new StringBuilder();
+        this.buffer = new char[BUFFER_SIZE];
+        this.delimiter = settings.getDelimiter() != null ? settings.getDelimiter() : ";";
+    }
+
+    static final Stream<Query> stream(Configuration configuration, ParserImpl parser, Reader reader) {
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                new ParserStream(configuration, parser, reader),
+                Spliterator.ORDERED | Spliterator.NONNULL
+            ),
+            false
+        );
+    }
+
+    /**
+     * Split a script into statements without parsing them.
+     * <p>
+     * The resulting statements may still be incomplete, if the script
+     * contains procedural blocks that contain the delimiter.
+     */
+    static final List<String> split(Configuration configuration, ParserImpl parser, Reader reader) {
+        ParserStream stream = new ParserStream(configuration, parser, reader);
+        List<String> result = new ArrayList<>();
+        String sql;
+
+        while ((sql = stream.nextStatement()) != null)
+            result.add(sql);
+
+        return result;
+    }
+
+    @Override
+    public final boolean hasNext() {
+        while (queries.isEmpty() && next0());
+
+        return !queries.isEmpty();
+    }
+
+    @Override
+    public final Query next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        return queries.poll();
+    }
+
+    /**
+     * Read and parse the next statement.
+     *
+     * @return Whether there was a next statement.
+     */
+    private final boolean next0() {
+        String sql = nextStatement();
+
+        if (sql == null)
+            return false;
+
+        ParserException first = null;
+        boolean block = BLOCK.matcher(sql).find();
+
+        for (;;) {
+            try {
+                for (Query query : parser.parseSequentially(sql))
+                    queries.add(query);
+
+                return true;
+            }
+            catch (ParserException e) {
+                String t = terminator;
+                String more;
+
+                if (first == null)
+                    first = e;
+
+                // The parser may need more input, e.g. for a procedural block
+                // containing the delimiter. Other statements that fail at
+                // their end are erroneous, and must not consume the rest of
+                // the script.
+                if (!incomplete(sql, e))
+                    throw e;
+                else if (!block || t == null || (more = nextStatement()) == null)
+                    throw first;
+
+                sql = sql + t + more;
+            }
+        }
+    }
+
+    /**
+     * Whether the parser ran into the end of the statement, which may be
+     * caused by a delimiter contained in a procedural block.
+     */
+    static final boolean incomplete(String sql, ParserException e) {
+        int end = sql.length();
+
+        while (end > 0 && Character.isWhitespace(sql.charAt(end - 1)))
+            end--;
+
+        return e.position() >= end;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Lexing
+    // -------------------------------------------------------------------------
+
+    /**
+     * Read the next statement, excluding its delimiter.
+     *
+     * @return The next statement, or <code>null</code> if there is no more
+     *         content in the script.
+     */
+    private final String nextStatement() {
+        boolean content = false;
+        boolean lineStart = true;
+
+        statement.setLength(0);
+        terminator = null;
+
+        for (;;) {
+            if (!fill(1))
+                return content ? statement.toString() : null;
+
+            // DELIMITER commands are only allowed at the beginning of a statement
+            if (!content && peekKeyword("DELIMITER")) {
+                position += "DELIMITER".length();
+                delimiter = readLine().trim();
+                statement.setLength(0);
+                lineStart = true;
+                continue;
+            }
+
+            if (content && lineStart && peekKeyword("GO") && restOfLineBlank("GO".length())) {
+                readLine();
+                return statement.toString();
+            }
+
+            if (peek(delimiter)) {
+                position += delimiter.length();
+
+                // Skip empty statements
+                if (!content) {
+                    statement.setLength(0);
+                    continue;
+                }
+
+                terminator = delimiter;
+                return statement.toString();
+            }
+
+            char c = buffer[position];
+
+            if (c == '-' && peek("--") || c == '#' && hashComments) {
+                lineComment();
+                lineStart = true;
+                continue;
+            }
+            else if (c == '/' && peek("/*")) {
+                blockComment();
+                continue;
+            }
+
+            switch (c) {
+                case '\'':
+                case '"':
+                case '`':
+                    quoted(c, c, c == '\'' && backslashEscapes());
+                    break;
+
+                case '[':
+                    quoted('[', ']', false);
+                    break;
+
+                case '$':
+                    if (!dollarQuoted())
+                        append(1);
+
+                    break;
+
+                default:
+                    append(1);
+
+                    if (c == '\n')
+                        lineStart = true;
+
+                    if (Character.isWhitespace(c))
+                        continue;
+
+                    break;
+            }
+
+            content = true;
+            lineStart = false;
+        }
+    }
+
+    /**
+     * Whether the string literal starting at the current position supports
+     * backslash escapes, i.e. whether it is an <code>E'..'</code> or
+     * <code>N'..'</code> literal, as in {@link ParserImpl}.
+     * <p>
+     * Backslash escapes in plain string literals, as used by MySQL, are not
+     * supported by the parser, so they aren't supported here either.
+     */
+    private final boolean backslashEscapes() {
+        int l = statement.length();
+
+        if (l == 0)
+            return false;
+
+        char p = statement.charAt(l - 1);
+        return (p == 'e' || p == 'E' || p == 'n' || p == 'N')
+            && (l == 1 || !Character.isJavaIdentifierPart(statement.charAt(l - 2)));
+    }
+
+    private final void quoted(char open, char close, boolean backslashEscapes) {
+        append(1);
+
+        for (;;) {
+            if (!fill(1))
+                return;
+
+            char c = buffer[position];
+            append(1);
+
+            // Escaped characters, e.g. E'it\'s'
+            if (c == '\\' && backslashEscapes) {
+                if (fill(1))
+                    append(1);
+            }
+            else if (c == close) {
+
+                // Escaped quotes, e.g. 'it''s'
+                if (open == close && fill(1) && buffer[position] == close)
+                    append(1);
+                else
+                    return;
+            }
+        }
+    }
+
+    /**
+     * PostgreSQL dollar quoted strings, e.g. <code>$$ .. $$</code> or
+     * <code>$tag$ .. $tag$</code>.
+     */
+    private final boolean dollarQuoted() {
+        int l = statement.length();
+
+        // Identifiers may contain $ characters
+        if (l > 0 && Character.isJavaIdentifierPart(statement.charAt(l - 1)))
+            return false;
+
+        int i = 1;
+        for (;;) {
+            if (!fill(i + 1))
+                return false;
+
+            char c = buffer[position + i];
+
+            if (c == '$')
+                break;
+            else if (Character.isLetter(c) || c == '_' || (i > 1 && Character.isDigit(c)))
+                i++;
+            else
+                return false;
+        }
+
+        String tag = new String(buffer, position, i + 1);
+        append(tag.length());
+
+        for (;;) {
+            if (!fill(tag.length()))
+                return true;
+            else if (peek(tag)) {
+                append(tag.length());
+                return true;
+            }
+            else
+                append(1);
+        }
+    }
+
+    private final void lineComment() {
+        boolean ignoring = false;
+
+        for (;;) {
+            if (!fill(1))
+                return;
+
+            ignoring = ignoreComment(ignoring);
+            char c = buffer[position];
+            append(1);
+
+            if (!ignoring && c == '\n')
+                return;
+        }
+    }
+
+    private final void blockComment() {
+        boolean ignoring = false;
+        int nesting = 0;
+
+        for (;;) {
+            if (!fill(1))
+                return;
+
+            if (!(ignoring = ignoreComment(ignoring))) {
+                if (peek("/*")) {
+                    append(2);
+                    nesting++;
+                    continue;
+                }
+                else if (peek("*/")) {
+                    append(2);
+
+                    if (--nesting == 0)
+                        return;
+                    else
+                        continue;
+                }
+            }
+
+            append(1);
+        }
+    }
+
+    /**
+     * The ignore comment region may span several statements.
+     */
+    private final boolean ignoreComment(boolean ignoring) {
+        if (checkIgnoreComment)
+            if (!ignoring)
+                return peek(ignoreCommentStart);
+            else
+                return !peek(ignoreCommentStop);
+
+        return false;
+    }
+
+    private final String readLine() {
+        StringBuilder sb = new StringBuilder();
+
+        while (fill(1)) {
+            char c = buffer[position++];
+
+            if (c == '\n')
+                break;
+            else
+                sb.append(c);
+        }
+
+        return sb.toString();
+    }
+
+    private final boolean restOfLineBlank(int offset) {
+        for (int i = offset;; i++) {
+            if (!fill(i + 1))
+                return true;
+
+            char c = buffer[position + i];
+
+            if (c == '\n')
+                return true;
+            else if (!Character.isWhitespace(c))
+                return false;
+        }
+    }
+
+    private final boolean peekKeyword(String keyword) {
+        int length = keyword.length();
+
+        if (!fill(length))
+            return false;
+
+        for (int i = 0; i < length; i++)
+            if (Character.toUpperCase(buffer[position + i]) != keyword.charAt(i))
+                return false;
+
+        return !fill(length + 1) || Character.isWhitespace(buffer[position + length]);
+    }
+
+    private final boolean peek(String string) {
+        if (string == null || string.isEmpty() || !fill(string.length()))
+            return false;
+
+        for (int i = 0; i < string.length(); i++)
+            if (buffer[position + i] != string.charAt(i))
+                return false;
+
+        return true;
+    }
+
+    private final void append(int length) {
+        statement.append(buffer, position, length);
+        position += length;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Buffering
+    // -------------------------------------------------------------------------
+
+    /**
+     * Make sure at least <code>length</code> characters are available in the
+     * buffer, if possible.
+     */
+    private final boolean fill(int length) {
+        if (limit - position >= length)
+            return true;
+        else if (eof)
+            return false;
+
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+
+        if (length > buffer.length) {
+            char[] b = new char[Math.max(length, buffer.length * 2)];
+            System.arraycopy(buffer, 0, b, 0, limit);
+            buffer = b;
+        }
+
+        try {
+            while (limit < length) {
+                int read = reader.read(buffer, limit, buffer.length - limit);
+
+                if (read < 0) {
+                    eof = true;
+                    return false;
+                }
+
+                limit += read;
+            }
+        }
+        catch (java.io.IOException e) {
+            throw new IOException("Error while reading SQL script", e);
+        }
+
+        return true;
+    }
+}
@@ -37,6 +37,8 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
+
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -69,11 +71,17 @@ final class ParsingConnection extends DefaultConnection {
 
     final String translate(String sql) {
         log.debug("Translating from", sql);
-        String result = ctx.render(parser.parseQuery(sql));
+        String result = TRUE.equals(configuration.settings().isCacheParsingConnection())
+            ? ParsingConnectionCache.of(configuration).translate(ctx, sql, this::translate0)
+            : translate0(sql, Tools.EMPTY_OBJECT);
         log.debug("Translating to", result);
         return result;
     }
 
+    private final String translate0(String sql, Object[] bindings) {
+        return ctx.render(parser.parseQuery(sql, bindings));
+    }
+
     @Override
     public final Statement createStatement() throws SQLException {
         return new ParsingStatement(this, getDelegate().createStatement());
@@ -0,0 +1,573 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Boolean.TRUE;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.inline;
+import static org.jooq.impl.SQLDataType.NUMERIC;
+import static org.jooq.impl.Tools.DataCacheKey.DATA_CACHE_PARSING_CONNECTION;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.conf.Settings;
+import org.jooq.conf.SettingsTools;
+import org.jooq.impl.DiagnosticsConnection.LRU;
+import org.jooq.impl.Tools.Cache;
+
+/**
+ * A {@link Configuration} scoped cache of SQL strings translated by
+ * {@link DSLContext#parsingConnection()} and
+ * {@link DSLContext#parsingDataSource()}.
+ * <p>
+ * The cache is keyed by input SQL string, {@link Configuration#dialect()} and
+ * {@link Configuration#settings()}, and it is limited in size by
+ * {@link Settings#getCacheParsingConnectionLRUCacheSize()}. If
+ * {@link Settings#isCacheParsingConnectionNormalizeLiterals()} is turned on,
+ * string and numeric literals in the input SQL are replaced by bind variable
+ * markers prior to translation, such that SQL strings that differ only in
+ * their literals share the same cache entry, provided their literals are of
+ * the same kinds (string or numeric).
+ *
+ * @author Lukas Eder
+ */
+public final class ParsingConnectionCache {
+
+    private static final String MARKER_PREFIX = "/*jooq-literal:";
+    private static final String MARKER_SUFFIX = "*/";
+
+    /**
+     * A placeholder for normalised SQL that could not be translated.
+     */
+    private static final Template NO_TEMPLATE = new Template(new String[0], new int[0]);
+
+    private final Map<Object, Object> cache;
+    private final AtomicLong          hits;
+    private final AtomicLong          misses;
+
+    private ParsingConnectionCache(int size) {
+        this.cache = new LRU<>(size);
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+    }
+
+    /**
+     * Get the cache associated with a {@link Configuration}.
+     */
+    public static final ParsingConnectionCache of(Configuration configuration) {
+        ParsingConnectionCache result = (ParsingConnectionCache) configuration.data(DATA_CACHE_PARSING_CONNECTION);
+
+        if (result == null) {
+            synchronized (DATA_CACHE_PARSING_CONNECTION) {
+                result = (ParsingConnectionCache) configuration.data(DATA_CACHE_PARSING_CONNECTION);
+
+                if (result == null) {
+                    Integer size = configuration.settings().getCacheParsingConnectionLRUCacheSize();
+                    result = new ParsingConnectionCache(size == null ? 8192 : size);
+                    configuration.data(DATA_CACHE_PARSING_CONNECTION, result);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * The number of cache hits since the cache was created or cleared.
+     */
+    public final long hits() {
+        return hits.get();
+    }
+
+    /**
+     * The number of cache misses since the cache was created or cleared.
+     */
+    public final long misses() {
+        return misses.get();
+    }
+
+    /**
+     * The number of cached translations.
+     */
+    public final int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Remove all cached translations and reset the hit and miss counters.
+     */
+    public final void clear() {
+        synchronized (cache) {
+            cache.clear();
+            hits.set(0L);
+            misses.set(0L);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ParsingConnectionCache [size=" + size() + ", hits=" + hits + ", misses=" + misses + "]";
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Translation
+    // -------------------------------------------------------------------------
+
+    /**
+     * Translate a SQL string, or look up a previous translation.
+     *
+     * @param ctx The translating context.
+     * @param sql The input SQL string.
+     * @param translate The translation of an input SQL string, given
+     *            optional bindings.
+     */
+    final String translate(DSLContext ctx, String sql, BiFunction<String, Object[], String> translate) {
+        Settings settings = ctx.settings();
+
+        if (TRUE.equals(settings.isCacheParsingConnectionNormalizeLiterals())) {
+            Normalised n = normalise(sql);
+
+            if (n != null) {
+                Template t = (Template) lookup(ctx, Cache.key(n.sql, n.kinds), () -> template(n, translate));
+
+                if (t != NO_TEMPLATE)
+                    return t.render(inlined(ctx, n.literals));
+            }
+        }
+
+        return (String) lookup(ctx, sql, () -> translate.apply(sql, Tools.EMPTY_OBJECT));
+    }
+
+    /**
+     * Look up a cached translation by its SQL string, or by its normalised SQL
+     * string and literal kinds.
+     */
+    private final Object lookup(DSLContext ctx, Object sql, Supplier<Object> operation) {
+        Object key = Cache.key(sql, Cache.key(ctx.dialect(), ctx.settings()));
+        Object result;
+
+        synchronized (cache) {
+            result = cache.get(key);
+        }
+
+        if (result != null) {
+            hits.incrementAndGet();
+            return result;
+        }
+
+        // Translate outside of the lock. Concurrent misses may translate the
+        // same SQL string twice, which is harmless.
+        misses.incrementAndGet();
+        result = operation.get();
+
+        // Settings are mutable, so a snapshot is needed for the key
+        key = Cache.key(sql, Cache.key(ctx.dialect(), SettingsTools.clone(ctx.settings())));
+
+        synchronized (cache) {
+            cache.put(key, result);
+        }
+
+        return result;
+    }
+
+    private static final Template template(Normalised n, BiFunction<String, Object[], String> translate) {
+        Object[] bindings = new Object[n.bindings];
+
+        for (int i = 0; i < n.literalBindings.length; i++)
+            bindings[n.literalBindings[i]] = marker(i, n.literals[i]);
+
+        String translated;
+        try {
+            translated = translate.apply(n.sql, bindings);
+        }
+
+        // Literals may appear in places where the parser doesn't allow for bind
+        // variables, e.g. VARCHAR(10)
+        catch (ParserException e) {
+            return NO_TEMPLATE;
+        }
+
+        List<String> parts = new ArrayList<>();
+        List<Integer> literals = new ArrayList<>();
+
+        int i = 0;
+        int j;
+        while ((j = translated.indexOf(MARKER_PREFIX, i)) >= 0) {
+            int k = translated.indexOf(MARKER_SUFFIX, j + MARKER_PREFIX.length());
+            int index = Integer.valueOf(translated.substring(j + MARKER_PREFIX.length(), k));
+            k += MARKER_SUFFIX.length();
+
+            // String markers are quoted, and replaced by quoted literals
+            if (n.literals[index].charAt(0) == '\'') {
+                if (j == 0 || translated.charAt(j - 1) != '\'' || k >= translated.length() || translated.charAt(k) != '\'')
+                    return NO_TEMPLATE;
+
+                j--;
+                k++;
+            }
+
+            parts.add(translated.substring(i, j));
+            literals.add(index);
+            i = k;
+        }
+
+        parts.add(translated.substring(i));
+
+        int[] l = new int[literals.size()];
+        for (int x = 0; x < l.length; x++)
+            l[x] = literals.get(x);
+
+        return new Template(parts.toArray(Tools.EMPTY_STRING), l);
+    }
+
+    /**
+     * Render string literals for the target dialect, which may escape their
+     * content differently from the input SQL.
+     */
+    private static final String[] inlined(DSLContext ctx, String[] literals) {
+        String[] result = new String[literals.length];
+
+        for (int i = 0; i < literals.length; i++) {
+            String literal = literals[i];
+
+            result[i] = literal.charAt(0) == '\''
+                ? ctx.renderInlined(inline(literal.substring(1, literal.length() - 1).replace("''", "'")))
+                : literal;
+        }
+
+        return result;
+    }
+
+    /**
+     * A marker for a literal, which is rendered like the literal itself: as an
+     * inline string, or as a numeric expression.
+     */
+    private static final Field<?> marker(int index, String literal) {
+        return literal.charAt(0) == '\''
+            ? inline(MARKER_PREFIX + index + MARKER_SUFFIX)
+            : field(MARKER_PREFIX + index + MARKER_SUFFIX, NUMERIC);
+    }
+
+    /**
+     * A translated SQL string with literal markers.
+     */
+    private static final class Template {
+        final String[] parts;
+        final int[]    literals;
+
+        Template(String[] parts, int[] literals) {
+            this.parts = parts;
+            this.literals = literals;
+        }
+
+        final String render(String[] values) {
+            if (literals.length == 0)
+                return parts[0];
+
+            StringBuilder sb = new StringBuilder();
+
+            for (int i = 0; i < literals.length; i++)
+                sb.append(parts[i]).append(values[literals[i]]);
+
+            return sb.append(parts[parts.length - 1]).toString();
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.asList(parts).toString();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Literal normalisation
+    // -------------------------------------------------------------------------
+
+    /**
+     * A SQL string whose literals have been replaced by bind variables.
+     */
+    private static final class Normalised {
+        final String   sql;
+
+        /**
+         * The kind of each literal, <code>'s'</code> for string literals and
+         * <code>'n'</code> for numeric literals. The translation may depend on
+         * the literal types, e.g. of concatenation or arithmetic operands.
+         */
+        final String   kinds;
+        final String[] literals;
+        final int[]    literalBindings;
+        final int      bindings;
+
+        Normalised(String sql, String[] literals, int[] literalBindings, int bindings) {
+            this.sql = sql;
+            this.literals = literals;
+
+            char[] k = new char[literals.length];
+            for (int i = 0; i < k.length; i++)
+                k[i] = literals[i].charAt(0) == '\'' ? 's' : 'n';
+
+            this.kinds = new String(k);
+            this.literalBindings = literalBindings;
+            this.bindings = bindings;
+        }
+    }
+
+    /**
+     * Replace string and numeric literals by <code>?</code> bind variables.
+     * <p>
+     * This is a lightweight lexer, not a parser. It gives up (returning
+     * <code>null</code>) whenever it encounters syntax that it cannot safely
+     * skip, such as named bind variables or vendor specific quoting, including
+     * backslash escapes in string literals. Prefixed literals, such as
+     * <code>N'..'</code> or <code>DATE '..'</code>, are left in place for the
+     * parser to translate.
+     */
+    static final Normalised normalise(String sql) {
+        StringBuilder sb = new StringBuilder(sql.length());
+        List<String> literals = new ArrayList<>();
+        List<Integer> literalBindings = new ArrayList<>();
+        int bindings = 0;
+        int length = sql.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = sql.charAt(i);
+
+            switch (c) {
+                case '-':
+                    if (i + 1 < length && sql.charAt(i + 1) == '-') {
+                        int j = sql.indexOf('\n', i);
+                        j = j < 0 ? length : j;
+                        sb.append(sql, i, j);
+                        i = j - 1;
+                        continue;
+                    }
+
+                    break;
+
+                case '/':
+                    if (i + 1 < length && sql.charAt(i + 1) == '*') {
+                        int j = sql.indexOf("*/", i + 2);
+                        if (j < 0)
+                            return null;
+
+                        sb.append(sql, i, j + 2);
+                        i = j + 1;
+                        continue;
+                    }
+
+                    break;
+
+                case '"':
+                case '`':
+                case '[': {
+                    int j = sql.indexOf(c == '[' ? ']' : c, i + 1);
+                    if (j < 0)
+                        return null;
+
+                    sb.append(sql, i, j + 1);
+                    i = j;
+                    continue;
+                }
+
+                // Named bind variables and PostgreSQL dollar quoted strings
+                case ':':
+                    if (i + 1 < length && sql.charAt(i + 1) == ':') {
+                        sb.append("::");
+                        i++;
+                        continue;
+                    }
+                    else if (i + 1 < length && Character.isJavaIdentifierStart(sql.charAt(i + 1)))
+                        return null;
+
+                    break;
+
+                case '$':
+                    return null;
+
+                case '?':
+                    bindings++;
+                    break;
+
+                case '\'': {
+                    int j = i + 1;
+
+                    for (;;) {
+                        if (j >= length)
+                            return null;
+
+                        // MySQL style backslash escapes can't be lexed
+                        // without knowing the input dialect
+                        else if (sql.charAt(j) == '\\')
+                            return null;
+                        else if (sql.charAt(j) == '\'' && j + 1 < length && sql.charAt(j + 1) == '\'')
+                            j += 2;
+                        else if (sql.charAt(j) == '\'')
+                            break;
+                        else
+                            j++;
+                    }
+
+                    // Prefixed strings such as N'..', X'..', or DATE '..'
+                    // are not plain string literals
+                    if (alternativeQuoting(sql, i)) {
+                        return null;
+                    }
+                    else if (prefixed(sql, i)) {
+                        sb.append(sql, i, j + 1);
+                    }
+                    else {
+                        literals.add(sql.substring(i, j + 1));
+                        literalBindings.add(bindings++);
+                        sb.append('?');
+                    }
+
+                    i = j;
+                    continue;
+                }
+
+                default:
+                    if (Character.isJavaIdentifierStart(c)) {
+                        int j = i + 1;
+                        while (j < length && identifierPart(sql.charAt(j)))
+                            j++;
+
+                        sb.append(sql, i, j);
+                        i = j - 1;
+                        continue;
+                    }
+                    else if (Character.isDigit(c) || (c == '.' && i + 1 < length && Character.isDigit(sql.charAt(i + 1)))) {
+                        if (i > 0 && (sql.charAt(i - 1) == '.' || identifierPart(sql.charAt(i - 1))))
+                            break;
+
+                        int j = i;
+                        while (j < length && Character.isDigit(sql.charAt(j)))
+                            j++;
+
+                        if (j < length && sql.charAt(j) == '.') {
+                            j++;
+                            while (j < length && Character.isDigit(sql.charAt(j)))
+                                j++;
+                        }
+
+                        if (j < length && (sql.charAt(j) == 'e' || sql.charAt(j) == 'E')) {
+                            int k = j + 1;
+
+                            if (k < length && (sql.charAt(k) == '+' || sql.charAt(k) == '-'))
+                                k++;
+
+                            if (k < length && Character.isDigit(sql.charAt(k))) {
+                                j = k;
+                                while (j < length && Character.isDigit(sql.charAt(j)))
+                                    j++;
+                            }
+                        }
+
+                        // Something like 1abc is not a numeric literal
+                        if (j < length && identifierPart(sql.charAt(j)))
+                            return null;
+
+                        literals.add(sql.substring(i, j));
+                        literalBindings.add(bindings++);
+                        sb.append('?');
+                        i = j - 1;
+                        continue;
+                    }
+
+                    break;
+            }
+
+            sb.append(c);
+        }
+
+        if (literals.isEmpty())
+            return null;
+
+        int[] l = new int[literalBindings.size()];
+        for (int i = 0; i < l.length; i++)
+            l[i] = literalBindings.get(i);
+
+        return new Normalised(sb.toString(), literals.toArray(Tools.EMPTY_STRING), l, bindings);
+    }
+
+    private static final boolean identifierPart(char c) {
+        return Character.isJavaIdentifierPart(c) || c == '#';
+    }
+
+    /**
+     * Oracle's q'[..]' strings cannot be skipped with the standard quoting rules.
+     */
+    private static final boolean alternativeQuoting(String sql, int quote) {
+        return quote > 0
+            && (sql.charAt(quote - 1) == 'q' || sql.charAt(quote - 1) == 'Q')
+            && (quote == 1 || !identifierPart(sql.charAt(quote - 2)));
+    }
+
+    private static final boolean prefixed(String sql, int quote) {
+        if (quote == 0)
+            return false;
+
+        // N'..', X'..', E'..', etc.
+        if (identifierPart(sql.charAt(quote - 1)) || sql.charAt(quote - 1) == '&')
+            return true;
+
+        int end = quote;
+        while (end > 0 && Character.isWhitespace(sql.charAt(end - 1)))
+            end--;
+
+        int start = end;
+        while (start > 0 && identifierPart(sql.charAt(start - 1)))
+            start--;
+
+        String keyword = sql.substring(start, end);
+        return "DATE".equalsIgnoreCase(keyword)
+            || "TIME".equalsIgnoreCase(keyword)
+            || "TIMESTAMP".equalsIgnoreCase(keyword)
+            || "INTERVAL".equalsIgnoreCase(keyword);
+    }
+}
@@ -68,6 +68,8 @@ import static org.jooq.SQLDialect.SQLITE;
 // ...
 // ...
 
+import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.Date;
@@ -646,6 +648,24 @@ public final class SQLDataType {
         return BLOB.length(length);
     }
 
+    /**
+     * The {@link Types#BLOB} type, streamed through an {@link InputStream}.
+     * <p>
+     * This is not a SQL or JDBC standard. This type binds and fetches its
+     * values using {@link BinaryStreamBinding}, without materialising them in
+     * memory.
+     */
+    public static final DataType<InputStream> BLOBSTREAM = BLOB.asConvertedDataType(new BinaryStreamBinding());
+
+    /**
+     * The {@link Types#CLOB} type, streamed through a {@link Reader}.
+     * <p>
+     * This is not a SQL or JDBC standard. This type binds and fetches its
+     * values using {@link CharacterStreamBinding}, without materialising them
+     * in memory.
+     */
+    public static final DataType<Reader> CLOBSTREAM = CLOB.asConvertedDataType(new CharacterStreamBinding());
+
     // -------------------------------------------------------------------------
     // Other types
     // -------------------------------------------------------------------------
@@ -154,7 +154,6 @@ import static org.jooq.impl.Keywords.K_START_WITH;
 import static org.jooq.impl.Keywords.K_THEN;
 import static org.jooq.impl.Keywords.K_THROW;
 import static org.jooq.impl.Keywords.K_WHEN;
-import static org.jooq.impl.DefaultParseContext.SUPPORTS_HASH_COMMENT_SYNTAX;
 import static org.jooq.impl.SQLDataType.BLOB;
 import static org.jooq.impl.SQLDataType.CLOB;
 import static org.jooq.impl.SQLDataType.JSON;
@@ -199,6 +198,7 @@ import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -713,7 +713,8 @@ final class Tools {
         DATA_REFLECTION_CACHE_GET_MATCHING_MEMBERS("org.jooq.configuration.reflection-cache.get-matching-members"),
         DATA_REFLECTION_CACHE_GET_MATCHING_SETTERS("org.jooq.configuration.reflection-cache.get-matching-setters"),
         DATA_REFLECTION_CACHE_HAS_COLUMN_ANNOTATIONS("org.jooq.configuration.reflection-cache.has-column-annotations"),
-        DATA_CACHE_RECORD_MAPPERS("org.jooq.configuration.cache.record-mappers");
+        DATA_CACHE_RECORD_MAPPERS("org.jooq.configuration.cache.record-mappers"),
+        DATA_CACHE_PARSING_CONNECTION("org.jooq.configuration.cache.parsing-connection");
 
         final String key;
 
@@ -867,6 +868,7 @@ final class Tools {
     private static final char[]     HEX_DIGITS                         = "0123456789abcdef".toCharArray();
 
     static final Set<SQLDialect>    REQUIRES_BACKSLASH_ESCAPING        = SQLDialect.supportedBy(MARIADB, MYSQL);
+    static final Set<SQLDialect>    SUPPORTS_HASH_COMMENT_SYNTAX       = SQLDialect.supportedBy(MARIADB, MYSQL);
     static final Set<SQLDialect>    NO_SUPPORT_NULL                    = SQLDialect.supportedBy(DERBY, FIREBIRD, HSQLDB);
     static final Set<SQLDialect>    NO_SUPPORT_BINARY_TYPE_LENGTH      = SQLDialect.supportedBy(POSTGRES);
     static final Set<SQLDialect>    NO_SUPPORT_CAST_TYPE_IN_DDL        = SQLDialect.supportedBy(MARIADB, MYSQL);
@@ -1205,6 +1207,53 @@ final class Tools {
         return configuration(configuration).settings();
     }
 
+    /**
+     * The maximum number of bind values that can be sent in a single
+     * statement, beyond which bind values are inlined.
+     */
+    static final int maxBindValues(Configuration configuration) {
+        Integer threshold = settings(configuration).getInlineThreshold();
+
+        if (threshold != null && threshold > 0)
+            return threshold;
+
+        switch (configuration.family()) {
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+            // [#5701] Tests were conducted with PostgreSQL 9.5 and pgjdbc 9.4.1209
+            case POSTGRES:
+                return 32767;
+
+            case SQLITE:
+                return 999;
+
+            default:
+                return Integer.MAX_VALUE;
+        }
+    }
+
     static final <T> T attach(Attachable attachable, Configuration configuration, Supplier<T> supplier) {
         Configuration previous = attachable.configuration();
 
@@ -5236,7 +5285,53 @@ final class Tools {
         return result;
     }
 
+    /**
+     * Cached {@link EnumType} values by enum type.
+     */
+    private static final ClassValue<EnumType[]>            ENUMS         = new ClassValue<EnumType[]>() {
+        @Override
+        protected EnumType[] computeValue(Class<?> type) {
+            return enums0(type.asSubclass(EnumType.class));
+        }
+    };
+
+    /**
+     * Cached {@link EnumType} values by enum type and literal.
+     */
+    private static final ClassValue<Map<String, EnumType>> ENUM_LITERALS = new ClassValue<Map<String, EnumType>>() {
+        @Override
+        protected Map<String, EnumType> computeValue(Class<?> type) {
+            EnumType[] values = ENUMS.get(type);
+            Map<String, EnumType> result = new HashMap<>(values.length * 2);
+
+            for (EnumType value : values)
+                result.putIfAbsent(value.getLiteral(), value);
+
+            return Collections.unmodifiableMap(result);
+        }
+    };
+
+    /**
+     * The values of an {@link EnumType}.
+     * <p>
+     * The resulting array is cached and shared, and must not be modified.
+     */
+    @SuppressWarnings("unchecked")
     static final <E extends EnumType> E[] enums(Class<? extends E> type) {
+        return (E[]) ENUMS.get(type);
+    }
+
+    /**
+     * Look up an {@link EnumType} value by its literal, or <code>null</code>
+     * if there is no such value.
+     */
+    @SuppressWarnings("unchecked")
+    static final <E extends EnumType> E lookupLiteral(Class<? extends E> type, String literal) {
+        return literal == null ? null : (E) ENUM_LITERALS.get(type).get(literal);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final <E extends EnumType> E[] enums0(Class<? extends E> type) {
 
         // Java implementation
         if (Enum.class.isAssignableFrom(type)) {
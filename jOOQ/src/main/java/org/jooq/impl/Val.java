@@ -37,11 +37,13 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
 import static org.jooq.conf.ParamType.NAMED;
 import static org.jooq.conf.ParamType.NAMED_OR_INLINED;
 import static org.jooq.impl.QueryPartListView.wrap;
 import static org.jooq.impl.SQLDataType.OTHER;
 import static org.jooq.impl.Tools.embeddedFields;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_COUNT_BIND_VALUES;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_LIST_ALREADY_INDENTED;
 
 import java.sql.SQLException;
@@ -162,7 +164,8 @@ final class Val<T> extends AbstractParam<T> {
      */
     final String getBindVariable(Context<?> ctx) {
         if (ctx.paramType() == NAMED || ctx.paramType() == NAMED_OR_INLINED) {
-            int index = ctx.nextIndex();
+            int index = ((AbstractContext<?>) ctx).nextIndex(this,
+                TRUE.equals(ctx.settings().isNamedParamDeduplication()) && !TRUE.equals(ctx.data(DATA_COUNT_BIND_VALUES)));
             String prefix = StringUtils.defaultIfNull(ctx.settings().getRenderNamedParamPrefix(), ":");
 
             if (StringUtils.isBlank(getParamName()))
@@ -71,6 +71,7 @@ final class VersionImpl extends AbstractNode<Version> implements Version {
     private final DSLContext   ctx;
     private final Meta         meta;
     private final List<Parent> parents;
+    private final boolean      forceApply;
 
     private VersionImpl(DSLContext ctx, String id, Meta meta, List<Parent> parents) {
         super(id, null);
@@ -78,6 +79,7 @@ final class VersionImpl extends AbstractNode<Version> implements Version {
         this.ctx = ctx;
         this.meta = meta != null ? meta : init(ctx);
         this.parents = parents;
+        this.forceApply = forceApply(parents);
     }
 
     private static final Meta init(DSLContext ctx) {
@@ -155,7 +157,7 @@ final class VersionImpl extends AbstractNode<Version> implements Version {
         if (equals(version))
             return ctx.queries();
 
-        VersionImpl subgraph = ((VersionImpl) version).subgraphTo(this);
+        VersionImpl subgraph = ((VersionImpl) version).subgraphTo(this, new HashMap<>());
 
         if (subgraph == null)
 
@@ -165,55 +167,68 @@ final class VersionImpl extends AbstractNode<Version> implements Version {
 
                 throw new DataDefinitionException("No forward path available between versions " + id() + " and " + version.id() + ". Use Settings.migrationAllowsUndo to enable this feature.");
 
-        return migrateTo(subgraph, ctx.queries());
+        return migrateTo(subgraph, new HashMap<>());
     }
 
-    private final VersionImpl subgraphTo(VersionImpl ancestor) {
+    /**
+     * Produce the subgraph of all paths between this version and an ancestor.
+     * <p>
+     * Each version is visited only once, and versions reachable through
+     * several paths (e.g. after a {@link #merge(String, Version)}) are shared
+     * in the resulting subgraph, which keeps this linear in the size of the
+     * version graph.
+     */
+    private final VersionImpl subgraphTo(VersionImpl ancestor, Map<String, VersionImpl> visited) {
+        if (visited.containsKey(id()))
+            return visited.get(id());
+
         List<Parent> list = null;
 
         for (Parent parent : parents) {
-            if (parent.version.equals(ancestor)) {
+            VersionImpl p = parent.version.equals(ancestor)
+                ? visited.computeIfAbsent(ancestor.id(), i -> new VersionImpl(ctx, i, parent.version.meta, emptyList()))
+                : parent.version.subgraphTo(ancestor, visited);
+
+            if (p != null) {
                 if (list == null)
                     list = new ArrayList<>();
 
-                list.add(new Parent(new VersionImpl(ctx, parent.version.id(), parent.version.meta, emptyList()), parent.queries));
-            }
-            else {
-                VersionImpl p = parent.version.subgraphTo(ancestor);
-
-                if (p != null) {
-                    if (list == null)
-                        list = new ArrayList<>();
-
-                    list.add(new Parent(p, parent.queries));
-                }
+                list.add(new Parent(p, parent.queries));
             }
         }
 
-        return list == null ? null : new VersionImpl(ctx, id(), meta, list);
+        VersionImpl result = list == null ? null : new VersionImpl(ctx, id(), meta, list);
+        visited.put(id(), result);
+        return result;
     }
 
-    private final Queries migrateTo(VersionImpl target, Queries result) {
-        if (!target.forceApply())
+    private final Queries migrateTo(VersionImpl target, Map<String, Queries> visited) {
+        if (!target.forceApply)
             return meta().migrateTo(target.meta());
 
-        for (Parent parent : target.parents) {
-            result = migrateTo(parent.version, result);
+        // The migration to a version does not depend on the path by which it
+        // is reached, so versions shared by several paths are migrated only once
+        Queries result = visited.get(target.id());
+
+        if (result == null) {
+            for (Parent parent : target.parents) {
+                result = migrateTo(parent.version, visited);
 
-            if (parent.queries != null)
-                result = result.concat(parent.queries);
-            else
-                result = result.concat(parent.version.meta().migrateTo(target.meta()));
+                if (parent.queries != null)
+                    result = result.concat(parent.queries);
+                else
+                    result = result.concat(parent.version.meta().migrateTo(target.meta()));
+            }
+
+            visited.put(target.id(), result);
         }
 
         return result;
     }
 
-    private final boolean forceApply() {
+    private static final boolean forceApply(List<Parent> parents) {
         for (Parent parent : parents)
-            if (parent.queries != null)
-                return true;
-            else if (parent.version.forceApply())
+            if (parent.queries != null || parent.version.forceApply)
                 return true;
 
         return false;
@@ -0,0 +1,150 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import org.jooq.Internal;
+
+/**
+ * A bounded cache of values computed from a pair of classes.
+ * <p>
+ * A cached value may reference both classes of its pair, so it is held by the
+ * class with the shortest lifetime among the two classes and this cache,
+ * keyed by the other class. Lifetimes are derived from class loaders: a class
+ * lives at least as long as another one if its class loader is the other
+ * one's class loader, or one of its ancestors. If the lifetimes cannot be
+ * ordered, e.g. for classes from sibling class loaders, the value is not
+ * cached. This prevents cached values from keeping application class loaders
+ * reachable from JDK classes after a redeployment.
+ *
+ * @author Lukas Eder
+ */
+@Internal
+public final class ClassPairCache<V> {
+
+    private final int                                      maxSize;
+
+    /**
+     * Values of pairs whose classes both outlive this cache.
+     */
+    private final Map<Class<?>, Map<Class<?>, V>>          shared;
+
+    /**
+     * Values held by the first class of their pair, keyed by the second class.
+     */
+    private final ClassValue<Map<Class<?>, V>>             byFirst;
+
+    /**
+     * Values held by the second class of their pair, keyed by the first class.
+     */
+    private final ClassValue<Map<Class<?>, V>>             bySecond;
+
+    /**
+     * Create a new cache.
+     *
+     * @param maxSize The maximum number of values held by any single class,
+     *            beyond which new values are no longer cached.
+     */
+    public ClassPairCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.shared = new ConcurrentHashMap<>();
+        this.byFirst = new Maps<>();
+        this.bySecond = new Maps<>();
+    }
+
+    /**
+     * Get a cached value, or compute it.
+     * <p>
+     * A concurrent race to compute the same value is harmless, as long as
+     * <code>compute</code> is a pure function.
+     */
+    public final V get(Class<?> first, Class<?> second, BiFunction<? super Class<?>, ? super Class<?>, ? extends V> compute) {
+        Map<Class<?>, V> map = shared.get(first);
+        V result = map == null ? null : map.get(second);
+
+        if (result == null)
+            result = byFirst.get(first).get(second);
+
+        if (result == null)
+            result = bySecond.get(second).get(first);
+
+        if (result == null) {
+            result = compute.apply(first, second);
+
+            if (outlives(first, ClassPairCache.class) && outlives(second, ClassPairCache.class))
+                put(map != null ? map : shared.size() < maxSize ? shared.computeIfAbsent(first, c -> new ConcurrentHashMap<>()) : null, second, result);
+            else if (outlives(second, first) && outlives(ClassPairCache.class, first))
+                put(byFirst.get(first), second, result);
+            else if (outlives(first, second) && outlives(ClassPairCache.class, second))
+                put(bySecond.get(second), first, result);
+        }
+
+        return result;
+    }
+
+    private final void put(Map<Class<?>, V> map, Class<?> key, V value) {
+        if (map != null && map.size() < maxSize)
+            map.put(key, value);
+    }
+
+    /**
+     * Whether <code>c1</code> lives at least as long as <code>c2</code>.
+     */
+    private static final boolean outlives(Class<?> c1, Class<?> c2) {
+        ClassLoader l1 = c1.getClassLoader();
+
+        if (l1 == null)
+            return true;
+
+        for (ClassLoader l2 = c2.getClassLoader(); l2 != null; l2 = l2.getParent())
+            if (l2 == l1)
+                return true;
+
+        return false;
+    }
+
+    private static final class Maps<V> extends ClassValue<Map<Class<?>, V>> {
+        @Override
+        protected Map<Class<?>, V> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    }
+}
@@ -76,12 +76,15 @@ import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 import javax.xml.bind.JAXB;
@@ -153,6 +156,11 @@ public final class Convert {
      */
     private static final boolean JAXB_AVAILABLE;
 
+    /**
+     * Cached {@link ConversionPlan} instances by source type and target type.
+     */
+    private static final ClassPairCache<ConversionPlan<?>> PLANS = new ClassPairCache<>(256);
+
     static {
         Set<String> trueValues = new HashSet<>();
         Set<String> falseValues = new HashSet<>();
@@ -382,8 +390,7 @@ public final class Convert {
         if (fromType == Object.class)
             return converter.from((T) from);
 
-        ConvertAll<T> convertAll = new ConvertAll<>(fromType);
-        return converter.from(convertAll.from(from));
+        return converter.from(Convert.<T>converter(from, fromType).from(from));
     }
 
     /**
@@ -453,7 +460,34 @@ public final class Convert {
         if (from != null && from.getClass() == toClass)
             return (T) from;
         else
-            return convert0(from, new ConvertAll<T>(toClass));
+            return Convert.<T>converter(from, toClass).from(from);
+    }
+
+    /**
+     * Get a converter from <code>fromClass</code> to <code>toClass</code>
+     * implementing the rules of {@link #convert(Object, Class)}.
+     * <p>
+     * Unlike {@link #convert(Object, Class)}, which has to look up the
+     * applicable conversion rule for each value, the returned converter has its
+     * rule resolved once for values of exactly type <code>fromClass</code>.
+     * Converters are cached, so clients converting many values of the same
+     * type, such as all the values of a column, should look up the converter
+     * once and reuse it. Values of any other type are still converted
+     * correctly, using the converter for their own type.
+     *
+     * @param fromClass The source type
+     * @param toClass The target type
+     * @return A converter for the given pair of types
+     */
+    @SuppressWarnings("unchecked")
+    public static final <U> Converter<Object, U> converter(Class<?> fromClass, Class<? extends U> toClass) {
+        return (ConversionPlan<U>) PLANS.get(fromClass, toClass, ConversionPlan::new);
+    }
+
+    private static final <U> Converter<Object, U> converter(Object from, Class<? extends U> toClass) {
+
+        // Any plan can convert null values
+        return converter(from == null ? Object.class : from.getClass(), toClass);
     }
 
     /**
@@ -488,11 +522,11 @@ public final class Convert {
      * Type safe conversion
      */
     private static final <T, U> List<U> convert0(Collection<?> collection, Converter<T, ? extends U> converter) throws DataTypeException {
-        ConvertAll<T> all = new ConvertAll<>(converter.fromType());
+        Class<T> fromType = converter.fromType();
         List<U> result = new ArrayList<>(collection.size());
 
         for (Object o : collection)
-            result.add(convert(all.from(o), converter));
+            result.add(convert(convert(o, fromType), converter));
 
         return result;
     }
@@ -1264,4 +1298,138 @@ public final class Convert {
                 return new DataTypeException(message);
         }
     }
+
+    /**
+     * A {@link ConvertAll} converter with its conversion rule resolved in
+     * advance for a given source type.
+     */
+    private static final class ConversionPlan<U> extends ConvertAll<U> {
+
+        /**
+         * Generated UID
+         */
+        private static final long               serialVersionUID = -3484929384718546617L;
+
+        private final Class<?>                  fromClass;
+        private transient Function<Object, U>   function;
+
+        ConversionPlan(Class<?> fromClass, Class<? extends U> toClass) {
+            super(toClass);
+
+            this.fromClass = fromClass;
+            this.function = resolve(fromClass, toClass);
+        }
+
+        @Override
+        public U from(Object from) {
+            if (from == null)
+                return super.from(from);
+            else if (from.getClass() != fromClass)
+                return converter(from.getClass(), toType()).from(from);
+            else if (function != null)
+                return function.apply(from);
+            else
+                return super.from(from);
+        }
+
+        /**
+         * Resolve the conversion rule for values of type
+         * <code>fromClass</code>, or <code>null</code> if the general rules in
+         * {@link ConvertAll#from(Object)} apply.
+         * <p>
+         * The rules resolved here must be the same as the ones that
+         * {@link ConvertAll#from(Object)} would apply.
+         */
+        @SuppressWarnings("unchecked")
+        private static final <U> Function<Object, U> resolve(Class<?> fromClass, Class<? extends U> toClass) {
+            final Class<?> wrapperTo = wrapper(toClass);
+
+            // No conversion, or up-casting
+            if (toClass == fromClass || toClass.isAssignableFrom(fromClass) || wrapperTo == wrapper(fromClass))
+                return from -> (U) from;
+
+            // Arrays and collections have their own rules
+            else if (fromClass.isArray() || Collection.class.isAssignableFrom(fromClass))
+                return null;
+
+            // All types can be converted into String
+            else if (toClass == String.class)
+                if (EnumType.class.isAssignableFrom(fromClass))
+                    return from -> (U) ((EnumType) from).getLiteral();
+                else
+                    return from -> (U) from.toString();
+
+            // Various number types are converted between each other
+            else if (Number.class.isAssignableFrom(fromClass)) {
+                if (wrapperTo == Byte.class)
+                    return from -> (U) Byte.valueOf(((Number) from).byteValue());
+                else if (wrapperTo == Short.class)
+                    return from -> (U) Short.valueOf(((Number) from).shortValue());
+                else if (wrapperTo == Integer.class)
+                    return from -> (U) Integer.valueOf(((Number) from).intValue());
+                else if (wrapperTo == Long.class)
+                    return from -> (U) Long.valueOf(((Number) from).longValue());
+                else if (wrapperTo == Float.class)
+                    return from -> (U) Float.valueOf(((Number) from).floatValue());
+                else if (wrapperTo == Double.class)
+                    return from -> (U) Double.valueOf(((Number) from).doubleValue());
+            }
+
+            // Enum literals are looked up by their literal or name
+            else if (java.lang.Enum.class.isAssignableFrom(toClass) && EnumType.class.isAssignableFrom(toClass)) {
+                final Map<String, Object> lookup = new HashMap<>();
+
+                for (Object value : toClass.getEnumConstants())
+                    lookup.putIfAbsent(((EnumType) value).getLiteral(), value);
+
+                if (fromClass == String.class)
+                    return from -> (U) lookup.get(from);
+                else if (EnumType.class.isAssignableFrom(fromClass))
+                    return from -> (U) lookup.get(((EnumType) from).getLiteral());
+                else if (java.lang.Enum.class.isAssignableFrom(fromClass))
+                    return from -> (U) lookup.get(((java.lang.Enum<?>) from).name());
+            }
+
+            // Numbers are parsed from strings, e.g. when loading CSV data
+            else if (fromClass == String.class) {
+                if (wrapperTo == Integer.class)
+                    return from -> {
+                        try {
+                            String fromString = ((String) from).trim();
+                            Integer asInt = Ints.tryParse(fromString);
+                            return (U) Integer.valueOf(asInt != null ? asInt.intValue() : new BigDecimal(fromString).intValue());
+                        }
+                        catch (NumberFormatException e) {
+                            return Reflect.initValue(toClass);
+                        }
+                    };
+                else if (wrapperTo == Long.class)
+                    return from -> {
+                        try {
+                            String fromString = ((String) from).trim();
+                            Long asLong = Longs.tryParse(fromString);
+                            return (U) Long.valueOf(asLong != null ? asLong.longValue() : new BigDecimal(fromString).longValue());
+                        }
+                        catch (NumberFormatException e) {
+                            return Reflect.initValue(toClass);
+                        }
+                    };
+                else if (toClass == BigDecimal.class)
+                    return from -> {
+                        try {
+                            return (U) new BigDecimal(((String) from).trim());
+                        }
+                        catch (NumberFormatException e) {
+                            return null;
+                        }
+                    };
+            }
+
+            return null;
+        }
+
+        private Object readResolve() {
+            return converter(fromClass, toType());
+        }
+    }
 }
@@ -43,6 +43,8 @@ import static org.jooq.impl.DSL.name;
 import static org.jooq.impl.DSL.val;
 import static org.jooq.tools.StringUtils.abbreviate;
 
+import java.io.InputStream;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -89,6 +91,9 @@ public class LoggerListener extends DefaultExecuteListener {
             if (!log.isTraceEnabled())
                 configuration = configuration.deriveAppending(new BindValueAbbreviator());
 
+            // Stream bind values cannot be inlined without consuming them
+            configuration = configuration.deriveAppending(new StreamBindValueMasker());
+
             String[] batchSQL = ctx.batchSQL();
             if (ctx.query() != null) {
 
@@ -213,6 +218,23 @@ public class LoggerListener extends DefaultExecuteListener {
 
     private static final int maxLength = 2000;
 
+    private static class StreamBindValueMasker extends DefaultVisitListener {
+
+        @Override
+        public void visitStart(VisitContext context) {
+            if (context.renderContext() != null) {
+                QueryPart part = context.queryPart();
+
+                if (part instanceof Param<?>) {
+                    Object value = ((Param<?>) part).getValue();
+
+                    if (value instanceof InputStream || value instanceof Reader)
+                        context.queryPart(val("[stream]"));
+                }
+            }
+        }
+    }
+
     private static class BindValueAbbreviator extends DefaultVisitListener {
 
         private boolean anyAbbreviations = false;
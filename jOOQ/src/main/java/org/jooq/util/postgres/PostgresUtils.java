@@ -74,14 +74,6 @@ public class PostgresUtils {
 
     private static final String POSTGRESQL_HEX_STRING_PREFIX = "\\x";
 
-    // PGobject parsing state machine
-    private static final int    PG_OBJECT_INIT               = 0;
-    private static final int    PG_OBJECT_BEFORE_VALUE       = 1;
-    private static final int    PG_OBJECT_QUOTED_VALUE       = 2;
-    private static final int    PG_OBJECT_UNQUOTED_VALUE     = 3;
-    private static final int    PG_OBJECT_AFTER_VALUE        = 4;
-    private static final int    PG_OBJECT_END                = 5;
-
     /**
      * Parse a Postgres-encoded <code>bytea</code> string
      */
@@ -305,81 +297,67 @@ public class PostgresUtils {
 
     /**
      * Tokenize a PGObject input string.
+     * <p>
+     * Unquoted values, and quoted values without any escaped characters, are
+     * taken from the input string directly. Only quoted values containing
+     * escaped characters are copied through a (shared) buffer.
      */
-    @SuppressWarnings("null")
     private static List<String> toPGObjectOrArray(String input, char open, char close) {
         List<String> values = new ArrayList<String>();
-        int i = 0;
-        int state = PG_OBJECT_INIT;
         StringBuilder sb = null;
+        int length = input.length();
 
-        while (i < input.length()) {
-            char c = input.charAt(i);
-
-            switch (state) {
-                // Initial state
-                case PG_OBJECT_INIT:
+        // Consume the opening bracket
+        int i = input.indexOf(open) + 1;
+        if (i == 0)
+            return values;
 
-                    // Consume the opening bracket
-                    if (c == open) {
-                        state = PG_OBJECT_BEFORE_VALUE;
-                    }
-
-                    break;
-
-                // Before a new value
-                case PG_OBJECT_BEFORE_VALUE:
-                    sb = new StringBuilder();
-
-                    // Consume "empty"
-                    if (c == ',') {
-                        values.add(null);
-                        state = PG_OBJECT_BEFORE_VALUE;
-                    }
-
-                    // Consume "empty"
-                    else if (c == close) {
-                        values.add(null);
-                        state = PG_OBJECT_END;
-                    }
+        // Before a new value
+        values:
+        while (i < length) {
+            char c = input.charAt(i);
 
-                    // Consume the opening quote
-                    else if (c == '"') {
-                        state = PG_OBJECT_QUOTED_VALUE;
-                    }
+            // Consume "empty"
+            if (c == ',') {
+                values.add(null);
+                i++;
+                continue values;
+            }
 
-                    // Consume "null"
-                    else if ((c == 'n' || c == 'N') && (i + 4 < input.length())
-                        && input.substring(i, i + 4).equalsIgnoreCase("null")) {
-                        values.add(null);
-                        i += 3;
-                        state = PG_OBJECT_AFTER_VALUE;
-                    }
+            // Consume "empty"
+            else if (c == close) {
+                values.add(null);
+                break values;
+            }
 
-                    // Consume a character
-                    else {
-                        sb.append(c);
-                        state = PG_OBJECT_UNQUOTED_VALUE;
-                    }
+            // Consume a quoted value
+            else if (c == '"') {
+                int start = ++i;
+                boolean escaped = false;
 
-                    break;
+                quoted:
+                for (;;) {
+                    if (i >= length)
+                        break values;
 
-                // A "value" is being created
-                case PG_OBJECT_QUOTED_VALUE:
+                    c = input.charAt(i);
 
                     // Consume a quote
                     if (c == '"') {
 
                         // Consume an escaped quote
                         if (input.charAt(i + 1) == '"') {
+                            sb = escape(sb, escaped, input, start, i);
+                            escaped = true;
                             sb.append(c);
                             i++;
                         }
 
                         // Consume the closing quote
                         else {
-                            values.add(sb.toString());
-                            state = PG_OBJECT_AFTER_VALUE;
+                            values.add(escaped ? sb.toString() : input.substring(start, i));
+                            i++;
+                            break quoted;
                         }
                     }
 
@@ -389,68 +367,83 @@ public class PostgresUtils {
 
                         // [#10467] Consume an escaped backslash or quote
                         if (n == '\\' || n == '"') {
+                            sb = escape(sb, escaped, input, start, i);
+                            escaped = true;
                             sb.append(n);
                             i++;
                         }
 
                         // Consume an "illegal" backslash (?)
-                        else {
+                        else if (escaped) {
                             sb.append(c);
                         }
                     }
 
                     // Consume any other character
-                    else {
+                    else if (escaped) {
                         sb.append(c);
                     }
 
-                    break;
+                    i++;
+                }
+            }
 
-                // A value is being created
-                case PG_OBJECT_UNQUOTED_VALUE:
+            // Consume "null"
+            else if ((c == 'n' || c == 'N') && (i + 4 < length)
+                && input.regionMatches(true, i, "null", 0, 4)) {
+                values.add(null);
+                i += 4;
+            }
 
-                    // Consume the closing bracket
-                    if (c == close) {
-                        values.add(sb.toString());
-                        state = PG_OBJECT_END;
-                    }
+            // Consume an unquoted value up to the value separator or the closing bracket
+            else {
+                int start = i++;
 
-                    // Consume the value separator
-                    else if (c == ',') {
-                        values.add(sb.toString());
-                        state = PG_OBJECT_BEFORE_VALUE;
-                    }
+                while (i < length && (c = input.charAt(i)) != ',' && c != close)
+                    i++;
 
-                    // Consume any other character
-                    else {
-                        sb.append(c);
-                    }
+                if (i >= length)
+                    break values;
 
-                    break;
+                values.add(input.substring(start, i));
 
-                // A value was just added
-                case PG_OBJECT_AFTER_VALUE:
+                if (c == close)
+                    break values;
 
-                    // Consume the closing bracket
-                    if (c == close) {
-                        state = PG_OBJECT_END;
-                    }
+                i++;
+                continue values;
+            }
 
-                    // Consume the value separator
-                    else if (c == ',') {
-                        state = PG_OBJECT_BEFORE_VALUE;
-                    }
+            // A value was just added. Consume the value separator or the closing bracket
+            while (i < length) {
+                c = input.charAt(i++);
 
-                    break;
+                if (c == ',')
+                    continue values;
+                else if (c == close)
+                    break values;
             }
-
-            // Consume next character
-            i++;
         }
 
         return values;
     }
 
+    /**
+     * Prepare the buffer for a quoted value containing escaped characters,
+     * copying the value's unescaped prefix if needed.
+     */
+    private static StringBuilder escape(StringBuilder sb, boolean escaped, String input, int start, int i) {
+        if (escaped)
+            return sb;
+
+        if (sb == null)
+            sb = new StringBuilder();
+        else
+            sb.setLength(0);
+
+        return sb.append(input, start, i);
+    }
+
     /**
      * Create a Postgres string representation of an array
      */